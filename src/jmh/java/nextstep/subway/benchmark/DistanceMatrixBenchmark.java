@@ -0,0 +1,69 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.path.DistanceMatrix;
+import nextstep.subway.domain.path.PathFinder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DistanceMatrixBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000"})
+    private int stationCount;
+
+    @Param({"20"})
+    private int lineCount;
+
+    @Param({"50"})
+    private int stationsPerLine;
+
+    private PathFinder pathFinder;
+    private DistanceMatrix distanceMatrix;
+    private long[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final List<Station> stations = SyntheticLines.stations(stationCount);
+        pathFinder = new PathFinder();
+
+        final List<Station> served = new ArrayList<>();
+        for (final Line line : SyntheticLines.network(stations, lineCount, stationsPerLine, random)) {
+            line.getSections().forEach(pathFinder::addSection);
+            served.addAll(line.getStations());
+        }
+        distanceMatrix = pathFinder.findAllDistances();
+
+        queries = new long[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = new long[]{
+                    served.get(random.nextInt(served.size())).getId(),
+                    served.get(random.nextInt(served.size())).getId()
+            };
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public DistanceMatrix build() {
+        return pathFinder.findAllDistances();
+    }
+
+    @Benchmark
+    public OptionalInt find() {
+        final long[] query = queries[next++ & (QUERY_COUNT - 1)];
+        return distanceMatrix.find(query[0], query[1]);
+    }
+}
@@ -0,0 +1,66 @@
+package nextstep.subway.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import nextstep.subway.applicaion.LineBinaryCodec;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LineEncodingBenchmark {
+
+    @Param({"1000"})
+    private int stationCount;
+
+    @Param({"20"})
+    private int lineCount;
+
+    @Param({"50"})
+    private int stationsPerLine;
+
+    private ObjectMapper objectMapper;
+    private List<LineResponse> lines;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final LocalDateTime now = LocalDateTime.now();
+        final List<StationResponse> stations = new ArrayList<>(stationCount);
+        for (long id = 1; id <= stationCount; id++) {
+            stations.add(new StationResponse(id, "역" + id, now, now));
+        }
+
+        lines = new ArrayList<>(lineCount);
+        for (long id = 1; id <= lineCount; id++) {
+            final List<StationResponse> shuffled = new ArrayList<>(stations);
+            Collections.shuffle(shuffled, random);
+            lines.add(new LineResponse(id, "노선" + id, "bg-red-600", shuffled.subList(0, stationsPerLine), now, now));
+        }
+
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] json() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lines);
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        return LineBinaryCodec.encode(lines);
+    }
+}
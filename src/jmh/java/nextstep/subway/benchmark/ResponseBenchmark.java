@@ -0,0 +1,37 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Station;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class ResponseBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int sectionCount;
+
+    private Line line;
+    private Station station;
+
+    @Setup
+    public void setUp() {
+        line = SyntheticLines.line(sectionCount);
+        station = SyntheticLines.station(1L);
+    }
+
+    @Benchmark
+    public LineResponse lineResponse() {
+        return LineResponse.from(line);
+    }
+
+    @Benchmark
+    public StationResponse stationResponse() {
+        return StationResponse.from(station);
+    }
+}
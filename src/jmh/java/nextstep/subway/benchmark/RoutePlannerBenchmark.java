@@ -0,0 +1,62 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.path.Route;
+import nextstep.subway.domain.path.RoutePlanner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class RoutePlannerBenchmark {
+
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"1000"})
+    private int stationCount;
+
+    @Param({"20"})
+    private int lineCount;
+
+    @Param({"50"})
+    private int stationsPerLine;
+
+    private RoutePlanner routePlanner;
+    private long[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final List<Station> stations = SyntheticLines.stations(stationCount);
+        routePlanner = new RoutePlanner();
+
+        final List<Station> served = new ArrayList<>();
+        for (final Line line : SyntheticLines.network(stations, lineCount, stationsPerLine, random)) {
+            line.getSections().forEach(routePlanner::addSection);
+            served.addAll(line.getStations());
+        }
+
+        queries = new long[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            final Station source = served.get(random.nextInt(served.size()));
+            Station target = source;
+            while (target.equals(source)) {
+                target = served.get(random.nextInt(served.size()));
+            }
+            queries[i] = new long[]{source.getId(), target.getId()};
+        }
+    }
+
+    @Benchmark
+    public List<Route> find() {
+        final long[] query = queries[next++ & (QUERY_COUNT - 1)];
+        return routePlanner.find(query[0], query[1]);
+    }
+}
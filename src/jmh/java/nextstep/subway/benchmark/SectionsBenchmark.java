@@ -0,0 +1,51 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import nextstep.subway.domain.entity.Sections;
+import nextstep.subway.domain.entity.Station;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class SectionsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int sectionCount;
+
+    private Sections sections;
+    private Section nextSection;
+    private Station nextStation;
+
+    @Setup
+    public void setUp() {
+        final Line line = new Line();
+        final List<Station> stations = SyntheticLines.stations(sectionCount + 2);
+        final List<Section> _sections = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            _sections.add(new Section((long) i + 1, line, stations.get(i), stations.get(i + 1), 1));
+        }
+        sections = new Sections(_sections);
+        sections.getStations();
+
+        nextStation = stations.get(sectionCount + 1);
+        nextSection = new Section((long) sectionCount + 1, line, stations.get(sectionCount), nextStation, 1);
+    }
+
+    @Benchmark
+    public List<Station> getStations() {
+        return sections.getStations();
+    }
+
+    @Benchmark
+    public SectionChanges addAndRemove() {
+        sections.add(nextSection);
+        return sections.remove(nextStation);
+    }
+}
@@ -0,0 +1,61 @@
+package nextstep.subway.benchmark;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.service.Validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+final class SyntheticLines {
+
+    private static final Validator<Station> DUMMY_STATION_VALIDATOR = _station -> {};
+    private static final Validator<Line> DUMMY_LINE_VALIDATOR = _line -> {};
+
+    private SyntheticLines() {
+    }
+
+    static Station station(final long id) {
+        return new Station(id, "역" + id, DUMMY_STATION_VALIDATOR);
+    }
+
+    static List<Station> stations(final int count) {
+        final List<Station> stations = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            stations.add(station(id));
+        }
+        return stations;
+    }
+
+    static Line line(final int sectionCount) {
+        final List<Station> stations = stations(sectionCount + 1);
+        final Line line = new Line("노선", "bg-red-600", stations.get(0), stations.get(1), 1, DUMMY_LINE_VALIDATOR);
+        for (int i = 1; i < sectionCount; i++) {
+            line.addSection(new Section((long) i + 1, line, stations.get(i), stations.get(i + 1), 1));
+        }
+        return line;
+    }
+
+    /**
+     * 역 중 {@code stationsPerLine} 개를 무작위로 골라 이은 노선을 {@code lineCount} 개 만든다. 구간 거리는 1 ~ 10 이다.
+     */
+    static List<Line> network(final List<Station> stations, final int lineCount, final int stationsPerLine, final Random random) {
+        final List<Line> lines = new ArrayList<>(lineCount);
+        long sectionId = 1;
+        for (long lineId = 1; lineId <= lineCount; lineId++) {
+            final List<Station> shuffled = new ArrayList<>(stations);
+            Collections.shuffle(shuffled, random);
+            final List<Station> route = shuffled.subList(0, stationsPerLine);
+
+            final Line line = new Line(lineId, "노선" + lineId, "bg-red-600", route.get(0), route.get(1), 1 + random.nextInt(10), DUMMY_LINE_VALIDATOR);
+            for (int i = 1; i < route.size() - 1; i++) {
+                line.addSection(new Section(sectionId++, line, route.get(i), route.get(i + 1), 1 + random.nextInt(10)));
+            }
+            lines.add(line);
+        }
+        return lines;
+    }
+}
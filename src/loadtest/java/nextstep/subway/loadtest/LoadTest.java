@@ -0,0 +1,193 @@
+package nextstep.subway.loadtest;
+
+import nextstep.subway.SubwayApplication;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 지하철 노선도 애플리케이션을 임의 포트로 띄우고 합성 노선망에 읽기/쓰기 요청을 섞어 보내는 부하 테스트.
+ *
+ * <pre>
+ * ./gradlew loadTest --args='--load.stations=1000 --load.lines=20 --load.duration=30s'
+ * </pre>
+ *
+ * {@code --load.} 로 시작하지 않는 인자는 그대로 스프링 애플리케이션에 전달된다.
+ */
+public class LoadTest {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext context = start(options)) {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final SubwayClient client = new SubwayClient(port);
+
+            final long setupStartedAt = System.nanoTime();
+            final SyntheticNetwork network = SyntheticNetwork.create(client, options);
+            System.out.printf("합성 노선망 생성: 역 %d 개, 노선 %d 개 (%d ms)%n",
+                    network.stationCount(), network.lineCount(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - setupStartedAt));
+
+            final Map<Operation, OperationStats> stats = run(client, network, options);
+            report(stats, options, System.out);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(final LoadTestOptions options) {
+        // application.properties 보다 우선하고 명령행 인자로는 덮어쓸 수 있도록 시스템 프로퍼티로 지정한다.
+        setIfAbsent("server.port", "0");
+        setIfAbsent("spring.jpa.properties.hibernate.show_sql", "false");
+        setIfAbsent("spring.jpa.properties.hibernate.format_sql", "false");
+        setIfAbsent("subway.access-log.sample-rate", "0");
+
+        return new SpringApplicationBuilder(SubwayApplication.class)
+                .run(options.applicationArgs());
+    }
+
+    private static void setIfAbsent(final String key, final String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private static Map<Operation, OperationStats> run(final SubwayClient client,
+                                                      final SyntheticNetwork network,
+                                                      final LoadTestOptions options) throws InterruptedException {
+        final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        options.mix().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+        final OperationPicker picker = new OperationPicker(options.mix());
+
+        final long startedAt = System.nanoTime();
+        final long measureFrom = startedAt + options.warmup().toNanos();
+        final long endAt = measureFrom + options.duration().toNanos();
+
+        final ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.execute(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < endAt) {
+                    final Operation operation = picker.pick(random);
+                    final long requestedAt = System.nanoTime();
+                    boolean failed;
+                    try {
+                        failed = execute(operation, client, network, random) >= 400;
+                    } catch (RuntimeException e) {
+                        failed = true;
+                    }
+                    stats.get(operation).record(System.nanoTime() - requestedAt, failed);
+                }
+            });
+        }
+
+        sleepUntil(measureFrom);
+        stats.values().forEach(OperationStats::reset);
+        System.out.printf("워밍업 %d 초 종료, %d 초 동안 측정 합니다.%n",
+                options.warmup().getSeconds(), options.duration().getSeconds());
+
+        workers.shutdown();
+        workers.awaitTermination(options.duration().toNanos() + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS);
+        return stats;
+    }
+
+    private static int execute(final Operation operation, final SubwayClient client,
+                               final SyntheticNetwork network, final Random random) {
+        switch (operation) {
+            case GET_LINES:
+                return client.getLines();
+            case GET_STATIONS:
+                return client.getStations();
+            case GET_LINE:
+                return client.getLine(network.line(random.nextInt(network.lineCount())).id());
+            case EDIT_SECTION:
+                return network.line(random.nextInt(network.lineCount())).edit(client, 1 + random.nextInt(10));
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private static void report(final Map<Operation, OperationStats> stats, final LoadTestOptions options,
+                               final PrintStream out) throws IOException {
+        final double seconds = options.duration().toNanos() / 1_000_000_000.0;
+        final Path reportDir = options.reportDir();
+        Files.createDirectories(reportDir);
+
+        out.println();
+        out.println("옵션: " + options);
+        out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        final Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (final Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            final Histogram histogram = entry.getValue().histogram();
+            final long errors = entry.getValue().errors();
+            print(out, entry.getKey().name(), histogram, errors, seconds);
+            write(reportDir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm"), histogram);
+            total.add(histogram);
+            totalErrors += errors;
+        }
+        print(out, "TOTAL", total, totalErrors, seconds);
+        write(reportDir.resolve("total.hgrm"), total);
+        out.println("백분위 분포: " + reportDir.toAbsolutePath());
+    }
+
+    private static void print(final PrintStream out, final String name, final Histogram histogram,
+                              final long errors, final double seconds) {
+        out.printf("%-14s %9d %7d %9.1f", name, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds);
+        for (final double percentile : PERCENTILES) {
+            out.printf(" %9.2f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+        }
+        out.printf(" %9.2f%n", histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static void write(final Path path, final Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path))) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private static void sleepUntil(final long nanoTime) throws InterruptedException {
+        final long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private static final class OperationPicker {
+
+        private final Operation[] operations;
+        private final int[] cumulativeWeights;
+
+        private OperationPicker(final Map<Operation, Integer> mix) {
+            this.operations = mix.keySet().toArray(new Operation[0]);
+            this.cumulativeWeights = new int[operations.length];
+            int sum = 0;
+            for (int i = 0; i < operations.length; i++) {
+                sum += mix.get(operations[i]);
+                cumulativeWeights[i] = sum;
+            }
+        }
+
+        private Operation pick(final Random random) {
+            final int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (value < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+}
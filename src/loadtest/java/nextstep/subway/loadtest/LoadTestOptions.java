@@ -0,0 +1,112 @@
+package nextstep.subway.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+final class LoadTestOptions {
+
+    private static final String PREFIX = "--load.";
+
+    private final Map<String, String> values = new HashMap<>();
+    private final List<String> applicationArgs = new ArrayList<>();
+
+    private LoadTestOptions() {
+        values.put("stations", "1000");
+        values.put("lines", "20");
+        values.put("sections-per-line", "40");
+        values.put("concurrency", "32");
+        values.put("warmup", "5s");
+        values.put("duration", "30s");
+        values.put("mix", "GET_LINES:30,GET_STATIONS:30,GET_LINE:30,EDIT_SECTION:10");
+        values.put("seed", "42");
+        values.put("report-dir", "build/reports/loadtest");
+    }
+
+    static LoadTestOptions parse(final String[] args) {
+        final LoadTestOptions options = new LoadTestOptions();
+        for (final String arg : args) {
+            if (!arg.startsWith(PREFIX)) {
+                options.applicationArgs.add(arg);
+                continue;
+            }
+            final String[] keyValue = arg.substring(PREFIX.length()).split("=", 2);
+            if (keyValue.length != 2 || !options.values.containsKey(keyValue[0])) {
+                throw new IllegalArgumentException("알 수 없는 옵션 입니다: " + arg);
+            }
+            options.values.put(keyValue[0], keyValue[1]);
+        }
+        options.validate();
+        return options;
+    }
+
+    int stations() {
+        return intValue("stations");
+    }
+
+    int lines() {
+        return intValue("lines");
+    }
+
+    int sectionsPerLine() {
+        return intValue("sections-per-line");
+    }
+
+    int concurrency() {
+        return intValue("concurrency");
+    }
+
+    Duration warmup() {
+        return duration("warmup");
+    }
+
+    Duration duration() {
+        return duration("duration");
+    }
+
+    Map<Operation, Integer> mix() {
+        final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (final String weight : values.get("mix").split(",")) {
+            final String[] operationWeight = weight.trim().split(":");
+            mix.put(Operation.valueOf(operationWeight[0]), Integer.parseInt(operationWeight[1]));
+        }
+        return mix;
+    }
+
+    long seed() {
+        return Long.parseLong(values.get("seed"));
+    }
+
+    Path reportDir() {
+        return Path.of(values.get("report-dir"));
+    }
+
+    String[] applicationArgs() {
+        return applicationArgs.toArray(new String[0]);
+    }
+
+    @Override
+    public String toString() {
+        return new TreeMap<>(values).toString();
+    }
+
+    private void validate() {
+        if (sectionsPerLine() < 1 || stations() < sectionsPerLine() + 1) {
+            throw new IllegalArgumentException("역의 수는 노선 별 구간 수 보다 커야 합니다.");
+        }
+        if (lines() < 1 || concurrency() < 1) {
+            throw new IllegalArgumentException("노선 수와 동시 요청 수는 1 이상 이어야 합니다.");
+        }
+        if (mix().values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("요청 비율의 합은 0 보다 커야 합니다.");
+        }
+    }
+
+    private int intValue(final String key) {
+        return Integer.parseInt(values.get(key));
+    }
+
+    private Duration duration(final String key) {
+        return Duration.parse("PT" + values.get(key).toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,9 @@
+package nextstep.subway.loadtest;
+
+enum Operation {
+
+    GET_LINES,
+    GET_STATIONS,
+    GET_LINE,
+    EDIT_SECTION
+}
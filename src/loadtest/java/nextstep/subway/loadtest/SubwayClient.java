@@ -0,0 +1,118 @@
+package nextstep.subway.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+final class SubwayClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    SubwayClient(final int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    JsonNode createStations(final List<String> names) {
+        final List<Map<String, String>> body = names.stream()
+                .map(name -> Map.of("name", name))
+                .collect(Collectors.toList());
+        return expect(send(post("/stations/bulk", body)), 200);
+    }
+
+    JsonNode createLineRoute(final String name, final String color, final List<Long> stationIds, final List<Integer> distances) {
+        return expect(send(post("/lines/bulk", Map.of(
+                "name", name,
+                "color", color,
+                "stationIds", stationIds,
+                "distances", distances
+        ))), 201);
+    }
+
+    int getLines() {
+        return send(get("/lines")).statusCode();
+    }
+
+    int getStations() {
+        return send(get("/stations")).statusCode();
+    }
+
+    int getLine(final long lineId) {
+        return send(get("/lines/" + lineId)).statusCode();
+    }
+
+    int addSection(final long lineId, final long upStationId, final long downStationId, final int distance) {
+        return send(post("/lines/" + lineId + "/sections", Map.of(
+                "upStationId", upStationId,
+                "downStationId", downStationId,
+                "distance", distance
+        ))).statusCode();
+    }
+
+    int removeSection(final long lineId, final long stationId) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/lines/" + lineId + "/sections?stationId=" + stationId))
+                .timeout(TIMEOUT)
+                .DELETE()
+                .build()).statusCode();
+    }
+
+    private HttpRequest get(final String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(final String path, final Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<byte[]> send(final HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode expect(final HttpResponse<byte[]> response, final int statusCode) {
+        if (response.statusCode() != statusCode) {
+            throw new IllegalStateException(response.request().uri() + " 요청이 실패 했습니다: " + response.statusCode());
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
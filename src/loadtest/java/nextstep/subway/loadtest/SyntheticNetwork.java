@@ -0,0 +1,108 @@
+package nextstep.subway.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+final class SyntheticNetwork {
+
+    private static final int STATION_CHUNK_SIZE = 500;
+    private static final int MAX_DISTANCE = 20;
+    private static final String[] COLORS = {"bg-red-600", "bg-blue-600", "bg-green-600", "bg-yellow-600", "bg-purple-600"};
+
+    private final List<Long> stationIds;
+    private final List<LineState> lines;
+
+    private SyntheticNetwork(final List<Long> stationIds, final List<LineState> lines) {
+        this.stationIds = stationIds;
+        this.lines = lines;
+    }
+
+    static SyntheticNetwork create(final SubwayClient client, final LoadTestOptions options) {
+        final Random random = new Random(options.seed());
+        final List<Long> stationIds = createStations(client, options.stations());
+
+        final List<LineState> lines = new ArrayList<>(options.lines());
+        for (int i = 0; i < options.lines(); i++) {
+            final List<Long> shuffled = new ArrayList<>(stationIds);
+            Collections.shuffle(shuffled, random);
+
+            final List<Long> route = shuffled.subList(0, options.sectionsPerLine() + 1);
+            final List<Integer> distances = IntStream.range(0, options.sectionsPerLine())
+                    .mapToObj(index -> 1 + random.nextInt(MAX_DISTANCE))
+                    .collect(Collectors.toList());
+            final Long spareStationId = shuffled.size() > route.size() ? shuffled.get(route.size()) : null;
+
+            final JsonNode line = client.createLineRoute("부하노선" + (i + 1), COLORS[i % COLORS.length], route, distances);
+            lines.add(new LineState(line.get("id").asLong(), route.get(route.size() - 1), spareStationId));
+        }
+        return new SyntheticNetwork(stationIds, lines);
+    }
+
+    private static List<Long> createStations(final SubwayClient client, final int count) {
+        final List<Long> stationIds = new ArrayList<>(count);
+        for (int from = 0; from < count; from += STATION_CHUNK_SIZE) {
+            final List<String> names = IntStream.range(from, Math.min(from + STATION_CHUNK_SIZE, count))
+                    .mapToObj(index -> "부하역" + (index + 1))
+                    .collect(Collectors.toList());
+            final JsonNode response = client.createStations(names);
+            if (response.get("failed").asInt() > 0) {
+                throw new IllegalStateException("역 생성에 실패 했습니다: " + response);
+            }
+            response.get("rows").forEach(row -> stationIds.add(row.get("id").asLong()));
+        }
+        return stationIds;
+    }
+
+    int stationCount() {
+        return stationIds.size();
+    }
+
+    int lineCount() {
+        return lines.size();
+    }
+
+    LineState line(final int index) {
+        return lines.get(index);
+    }
+
+    /**
+     * 노선 하나의 하행 종점 상태. 예비 역을 하행 종점에 붙였다 떼기를 반복해 구간 수를 일정하게 유지한다.
+     */
+    static final class LineState {
+
+        private final long id;
+        private final long endingStationId;
+        private final Long spareStationId;
+        private boolean extended;
+
+        private LineState(final long id, final long endingStationId, final Long spareStationId) {
+            this.id = id;
+            this.endingStationId = endingStationId;
+            this.spareStationId = spareStationId;
+        }
+
+        long id() {
+            return id;
+        }
+
+        synchronized int edit(final SubwayClient client, final int distance) {
+            if (spareStationId == null) {
+                return client.getLine(id);
+            }
+
+            final int statusCode = extended
+                    ? client.removeSection(id, spareStationId)
+                    : client.addSection(id, endingStationId, spareStationId, distance);
+            if (statusCode < 400) {
+                extended = !extended;
+            }
+            return statusCode;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(final Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        // 트랜잭션 인지 캐시는 afterCommit 에서 무효화 되므로 그 이후인 afterCompletion 에서 실행 한다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    runnable.run();
+                }
+            }
+        });
+    }
+}
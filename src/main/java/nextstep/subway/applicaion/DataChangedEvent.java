@@ -0,0 +1,14 @@
+package nextstep.subway.applicaion;
+
+public class DataChangedEvent {
+
+    private final String name;
+
+    public DataChangedEvent(final String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,46 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class DataVersion {
+
+    public static final String LINES = "lines";
+    public static final String STATIONS = "stations";
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final long initialVersion = System.currentTimeMillis();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public DataVersion(final ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public long get(final String name) {
+        return version(name).get();
+    }
+
+    public String eTag(final String name) {
+        return eTag(name, get(name));
+    }
+
+    public String eTag(final String name, final long version) {
+        return "\"" + name + "-" + version + "\"";
+    }
+
+    public void increase(final String name) {
+        AfterCommit.run(() -> {
+            version(name).incrementAndGet();
+            eventPublisher.publishEvent(new DataChangedEvent(name));
+        });
+    }
+
+    private AtomicLong version(final String name) {
+        return versions.computeIfAbsent(name, _name -> new AtomicLong(initialVersion));
+    }
+}
@@ -0,0 +1,64 @@
+package nextstep.subway.applicaion;
+
+public class JsonSnapshot {
+
+    private final long version;
+    private final String eTag;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final byte[] binary;
+
+    public JsonSnapshot(final long version, final String eTag, final byte[] json, final byte[] gzip, final byte[] binary) {
+        this.version = version;
+        this.eTag = eTag;
+        this.json = json;
+        this.gzip = gzip;
+        this.binary = binary;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+
+    /**
+     * gzip 본문은 JSON 본문과 바이트가 다르므로 강한 ETag 를 따로 쓴다.
+     */
+    public String getGzipETag() {
+        return variantETag("gzip");
+    }
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    /**
+     * 같은 버전의 바이너리 표현. 바이너리 형식이 없는 스냅샷은 비어 있다.
+     */
+    public byte[] getBinary() {
+        return binary;
+    }
+
+    public String getBinaryETag() {
+        return variantETag("binary");
+    }
+
+    public boolean hasBinary() {
+        return binary != null;
+    }
+
+    private String variantETag(final String variant) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + variant + "\"";
+    }
+}
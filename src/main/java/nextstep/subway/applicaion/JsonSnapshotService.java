@@ -0,0 +1,139 @@
+package nextstep.subway.applicaion;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class JsonSnapshotService {
+
+    private final DataVersion dataVersion;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final Map<String, Supplier<Object>> sources;
+    private final Map<String, Function<Object, byte[]>> binaryEncoders;
+    private final Map<String, JsonSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<JsonSnapshot>> rebuilds = new ConcurrentHashMap<>();
+
+    public JsonSnapshotService(final LineService lineService,
+                               final StationService stationService,
+                               final DataVersion dataVersion,
+                               final ObjectMapper objectMapper,
+                               @Value("${subway.snapshot.gzip:true}") final boolean gzip) {
+        this.dataVersion = dataVersion;
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.sources = Map.of(
+                DataVersion.LINES, lineService::findAllLines,
+                DataVersion.STATIONS, stationService::findAllStations
+        );
+        this.binaryEncoders = Map.of(
+                DataVersion.LINES, lines -> LineBinaryCodec.encode(castList(lines))
+        );
+    }
+
+    /**
+     * 지금 버전 이상의 스냅샷을 돌려준다.
+     * 이름 마다 한 번에 한 요청만 다시 만들고, 그 동안 온 요청은 다시 만들기가 끝나길 기다렸다가 결과를 함께 쓴다.
+     */
+    public JsonSnapshot get(final String name) {
+        final long version = dataVersion.get(name);
+        while (true) {
+            final JsonSnapshot snapshot = snapshots.get(name);
+            if (Objects.nonNull(snapshot) && snapshot.getVersion() >= version) {
+                return snapshot;
+            }
+
+            final CompletableFuture<JsonSnapshot> rebuild = new CompletableFuture<>();
+            final CompletableFuture<JsonSnapshot> running = rebuilds.putIfAbsent(name, rebuild);
+            if (Objects.isNull(running)) {
+                return rebuild(name, rebuild);
+            }
+            // 먼저 시작한 다시 만들기는 이 요청이 읽은 버전 보다 오래된 것일 수 있으므로 끝난 뒤 다시 확인 한다.
+            running.handle((rebuilt, e) -> rebuilt).join();
+        }
+    }
+
+    /**
+     * 조회 없이 이미 가진 값으로 현재 버전의 스냅샷을 만든다.
+     */
+    public void prime(final String name, final Object value) {
+        rebuild(name, () -> value);
+    }
+
+    @Async
+    @EventListener
+    public void onDataChanged(final DataChangedEvent event) {
+        if (sources.containsKey(event.getName())) {
+            get(event.getName());
+        }
+    }
+
+    private JsonSnapshot rebuild(final String name, final CompletableFuture<JsonSnapshot> rebuild) {
+        try {
+            final JsonSnapshot snapshot = rebuild(name, sources.get(name));
+            rebuild.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            rebuild.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilds.remove(name, rebuild);
+        }
+    }
+
+    private JsonSnapshot rebuild(final String name, final Supplier<Object> source) {
+        // 버전을 먼저 읽어야 조회 도중 변경이 생겨도 다음 요청 에서 다시 만든다.
+        final long version = dataVersion.get(name);
+        final Object value = source.get();
+        final byte[] json = serialize(value);
+        final Function<Object, byte[]> binaryEncoder = binaryEncoders.get(name);
+        final JsonSnapshot snapshot = new JsonSnapshot(
+                version,
+                dataVersion.eTag(name, version),
+                json,
+                gzip ? compress(json) : null,
+                Objects.nonNull(binaryEncoder) ? binaryEncoder.apply(value) : null
+        );
+
+        return snapshots.merge(name, snapshot, (current, rebuilt) -> rebuilt.getVersion() >= current.getVersion() ? rebuilt : current);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(final Object value) {
+        return (List<T>) value;
+    }
+
+    private byte[] serialize(final Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] compress(final byte[] json) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,21 @@
+package nextstep.subway.applicaion;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+final class KeysetPageable {
+
+    static final int MAX_LIMIT = 1000;
+    static final int STREAM_BATCH_SIZE = 500;
+
+    private KeysetPageable() {
+    }
+
+    static Pageable of(final int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException(String.format("조회 개수는 1 이상 %d 이하 이어야 합니다.", MAX_LIMIT));
+        }
+        return PageRequest.of(0, limit, Sort.by("id"));
+    }
+}
@@ -0,0 +1,183 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 노선 목록의 바이너리 표현. 여러 노선이 지나는 역도 한 번만 쓰도록 역 사전을 먼저 쓰고, 노선은 사전의 역 번호로 역을 가리킨다.
+ *
+ * <pre>
+ * 형식(byte)
+ * 역 수 { id 이름 생성 시각 수정 시각 } ...
+ * 노선 수 { id 이름 색상 생성 시각 수정 시각 역 수 { 역 번호 } ... } ...
+ * </pre>
+ * 정수는 LEB128 가변 길이, 문자열은 UTF-8 길이와 바이트, 시각은 UTC 기준 초 + 1 과 나노초 (없으면 0 하나)로 쓴다.
+ */
+public final class LineBinaryCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.subway.lines+binary";
+
+    private static final byte FORMAT = 1;
+
+    private LineBinaryCodec() {
+    }
+
+    public static byte[] encode(final List<LineResponse> lines) {
+        final Map<Long, Integer> indexes = new HashMap<>();
+        final List<StationResponse> stations = new ArrayList<>();
+        for (final LineResponse line : lines) {
+            for (final StationResponse station : line.getStations()) {
+                if (!indexes.containsKey(station.getId())) {
+                    indexes.put(station.getId(), stations.size());
+                    stations.add(station);
+                }
+            }
+        }
+
+        final Output output = new Output(64 + stations.size() * 24 + lines.size() * 48);
+        output.writeByte(FORMAT);
+        output.writeVarLong(stations.size());
+        for (final StationResponse station : stations) {
+            output.writeVarLong(station.getId());
+            output.writeString(station.getName());
+            output.writeDate(station.getCreatedDate());
+            output.writeDate(station.getModifiedDate());
+        }
+
+        output.writeVarLong(lines.size());
+        for (final LineResponse line : lines) {
+            output.writeVarLong(line.getId());
+            output.writeString(line.getName());
+            output.writeString(line.getColor());
+            output.writeDate(line.getCreatedDate());
+            output.writeDate(line.getModifiedDate());
+            output.writeVarLong(line.getStations().size());
+            for (final StationResponse station : line.getStations()) {
+                output.writeVarLong(indexes.get(station.getId()));
+            }
+        }
+        return output.toByteArray();
+    }
+
+    public static List<LineResponse> decode(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get() != FORMAT) {
+                throw new IllegalArgumentException("노선 목록의 바이너리 형식이 아닙니다.");
+            }
+
+            final int stationCount = readSize(buffer);
+            final List<StationResponse> stations = new ArrayList<>(stationCount);
+            for (int i = 0; i < stationCount; i++) {
+                stations.add(new StationResponse(readVarLong(buffer), readString(buffer), readDate(buffer), readDate(buffer)));
+            }
+
+            final int lineCount = readSize(buffer);
+            final List<LineResponse> lines = new ArrayList<>(lineCount);
+            for (int i = 0; i < lineCount; i++) {
+                final long id = readVarLong(buffer);
+                final String name = readString(buffer);
+                final String color = readString(buffer);
+                final LocalDateTime createdDate = readDate(buffer);
+                final LocalDateTime modifiedDate = readDate(buffer);
+                final int size = readSize(buffer);
+                final List<StationResponse> lineStations = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    lineStations.add(stations.get(readSize(buffer)));
+                }
+                lines.add(new LineResponse(id, name, color, lineStations, createdDate, modifiedDate));
+            }
+            return lines;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("노선 목록의 바이너리 형식이 아닙니다.", e);
+        }
+    }
+
+    private static long readVarLong(final ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("노선 목록의 바이너리 형식이 아닙니다.");
+    }
+
+    private static int readSize(final ByteBuffer buffer) {
+        return Math.toIntExact(readVarLong(buffer));
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[readSize(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static LocalDateTime readDate(final ByteBuffer buffer) {
+        final long seconds = readVarLong(buffer);
+        if (seconds == 0) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds - 1, readSize(buffer), ZoneOffset.UTC);
+    }
+
+    private static class Output {
+
+        private byte[] bytes;
+        private int size;
+
+        private Output(final int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void writeByte(final int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeString(final String value) {
+            final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        private void writeDate(final LocalDateTime dateTime) {
+            if (Objects.isNull(dateTime)) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(dateTime.toEpochSecond(ZoneOffset.UTC) + 1);
+            writeVarLong(dateTime.getNano());
+        }
+
+        private void ensureCapacity(final int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import nextstep.subway.domain.repository.SectionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+@Component
+public class LineMetrics implements MeterBinder {
+
+    private final SectionRepository sectionRepository;
+    private final DataVersion dataVersion;
+    private MultiGauge sectionsPerLine;
+    private volatile long refreshedVersion;
+
+    public LineMetrics(final SectionRepository sectionRepository, final DataVersion dataVersion) {
+        this.sectionRepository = sectionRepository;
+        this.dataVersion = dataVersion;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        sectionsPerLine = MultiGauge.builder("subway.line.sections")
+                .description("Number of sections per line")
+                .register(registry);
+    }
+
+    /**
+     * 첫 주기를 기다리지 않고 기동 직후 노선 별 구간 수를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${subway.metrics.refresh-interval}")
+    public void refreshIfChanged() {
+        if (dataVersion.get(DataVersion.LINES) != refreshedVersion) {
+            refresh();
+        }
+    }
+
+    public synchronized void refresh() {
+        refreshedVersion = dataVersion.get(DataVersion.LINES);
+        sectionsPerLine.register(sectionRepository.countByLine().stream()
+                .map(count -> MultiGauge.Row.of(Tags.of("line", String.valueOf(count.getLineId())), count.getSectionCount()))
+                .collect(Collectors.toList()), true);
+    }
+}
@@ -1,18 +1,33 @@
 package nextstep.subway.applicaion;
 
+import io.micrometer.core.annotation.Timed;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.LineRouteRequest;
+import nextstep.subway.applicaion.dto.NetworkLineResponse;
+import nextstep.subway.applicaion.dto.NetworkResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
 import nextstep.subway.domain.entity.Line;
 import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
 import nextstep.subway.domain.entity.Station;
 import nextstep.subway.domain.repository.LineRepository;
 import nextstep.subway.domain.repository.StationRepository;
+import nextstep.subway.domain.service.DuplicateArgumentException;
+import nextstep.subway.domain.service.NameIndex;
 import nextstep.subway.domain.service.Validator;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,21 +37,31 @@ public class LineService {
     private final LineRepository lineRepository;
     private final StationRepository stationRepository;
     private final Validator<Line> lineValidator;
+    private final NameIndex<Line> lineNameIndex;
+    private final NetworkIndexes networkIndexes;
+    private final DataVersion dataVersion;
 
     public LineService(final LineRepository lineRepository,
                        final StationRepository stationRepository,
-                       final Validator<Line> lineValidator) {
+                       final Validator<Line> lineValidator,
+                       final NameIndex<Line> lineNameIndex,
+                       final NetworkIndexes networkIndexes,
+                       final DataVersion dataVersion) {
         this.lineRepository = lineRepository;
         this.stationRepository = stationRepository;
         this.lineValidator = lineValidator;
+        this.lineNameIndex = lineNameIndex;
+        this.networkIndexes = networkIndexes;
+        this.dataVersion = dataVersion;
     }
 
+    @Timed("subway.service")
     public LineResponse saveLine(final LineRequest request) {
         final Station upStation = stationRepository.findById(request.getUpStationId())
                 .orElseThrow(NoSuchElementException::new);
         final Station downStation = stationRepository.findById(request.getDownStationId())
                 .orElseThrow(NoSuchElementException::new);
-        final Line line = lineRepository.save(new Line(
+        final Line line = save(new Line(
                 request.getName(),
                 request.getColor(),
                 upStation,
@@ -44,50 +69,193 @@ public class LineService {
                 request.getDistance(),
                 lineValidator
         ));
+        AfterCommit.run(() -> networkIndexes.addSections(line.getSections()));
+        dataVersion.increase(DataVersion.LINES);
 
         return createLineResponse(line);
     }
 
     @Transactional(readOnly = true)
+    @Timed("subway.service")
     public List<LineResponse> findAllLines() {
-        final List<Line> lines = lineRepository.findAll();
+        final List<Line> lines = lineRepository.findAllWithStations();
 
         return lines.stream()
                 .map(this::createLineResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 역은 한 번만 담고 노선은 역 id 와 구간 거리 배열로 담는다.
+     * 역을 먼저 조회 하므로 노선의 구간은 역을 다시 조회 하지 않고 같은 역 엔티티를 가리킨다.
+     */
     @Transactional(readOnly = true)
+    @Timed("subway.service")
+    public NetworkResponse findNetwork() {
+        final List<StationResponse> stations = stationRepository.findAll().stream()
+                .map(StationResponse::from)
+                .collect(Collectors.toList());
+        final List<NetworkLineResponse> lines = lineRepository.findAllWithSections().stream()
+                .map(NetworkLineResponse::from)
+                .collect(Collectors.toList());
+
+        return new NetworkResponse(stations, lines);
+    }
+
+    @Timed("subway.service")
+    public LineResponse saveLineRoute(final LineRouteRequest request) {
+        final List<Station> stations = findRouteStations(request);
+        final List<Integer> distances = request.getDistances();
+
+        final Line line = new Line(
+                request.getName(),
+                request.getColor(),
+                stations.get(0),
+                stations.get(1),
+                distances.get(0),
+                lineValidator
+        );
+        for (int i = 1; i < distances.size(); i++) {
+            line.addSection(new Section(line, stations.get(i), stations.get(i + 1), distances.get(i)));
+        }
+        save(line);
+        AfterCommit.run(() -> networkIndexes.addSections(line.getSections()));
+        dataVersion.increase(DataVersion.LINES);
+
+        return createLineResponse(line);
+    }
+
+    @Transactional(readOnly = true)
+    @Timed("subway.service")
+    public List<LineResponse> findLines(final Long after, final int limit) {
+        final List<Long> ids = lineRepository.findIdsByIdGreaterThan(after, KeysetPageable.of(limit));
+
+        return findLinesByIds(ids);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed("subway.service")
+    public void streamLines(final Consumer<LineResponse> consumer) {
+        List<Long> ids = lineRepository.findIdsByIdGreaterThan(0L, KeysetPageable.of(KeysetPageable.STREAM_BATCH_SIZE));
+        while (!ids.isEmpty()) {
+            findLinesByIds(ids).forEach(consumer);
+            if (ids.size() < KeysetPageable.STREAM_BATCH_SIZE) {
+                return;
+            }
+
+            final Long after = ids.get(ids.size() - 1);
+            ids = lineRepository.findIdsByIdGreaterThan(after, KeysetPageable.of(KeysetPageable.STREAM_BATCH_SIZE));
+        }
+    }
+
+    /**
+     * 캐시 키에 조회 전의 노선 데이터 버전을 넣는다.
+     * 쓰기 커밋 전에 읽은 응답이 늦게 캐시 되더라도 커밋 이후 올라간 버전의 키로는 찾지 않으므로 다시 응답 되지 않는다.
+     */
+    @Cacheable(value = "line", key = "{#id, @dataVersion.get(T(nextstep.subway.applicaion.DataVersion).LINES)}")
+    @Transactional(readOnly = true)
+    @Timed("subway.service")
     public LineResponse findLineById(final Long id) {
-        final Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        final Line line = lineRepository.findWithStationsById(id).orElseThrow(IllegalArgumentException::new);
 
         return createLineResponse(line);
     }
 
+    @Timed("subway.service")
     public void updateLine(final Long id, final LineRequest lineRequest) {
         final Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        final String name = line.getName();
         line.change(lineRequest.getName(), lineRequest.getColor(), lineValidator);
+        flush();
+        AfterCommit.run(() -> {
+            lineNameIndex.remove(name, line);
+            lineNameIndex.add(line);
+        });
+        dataVersion.increase(DataVersion.LINES);
     }
 
+    @Timed("subway.service")
     public void deleteLineById(final Long id) {
-        lineRepository.deleteById(id);
+        final Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        final List<Section> sections = List.copyOf(line.getSections());
+
+        lineRepository.delete(line);
+        AfterCommit.run(() -> {
+            networkIndexes.removeSections(sections);
+            lineNameIndex.remove(line);
+        });
+        dataVersion.increase(DataVersion.LINES);
     }
 
+    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 5, backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Timed("subway.service")
     public void addSection(final Long id, final LineRequest request) {
-        final Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        final Line line = lineRepository.findForUpdateById(id).orElseThrow(IllegalArgumentException::new);
         final Station upStation = stationRepository.findById(request.getUpStationId())
                 .orElseThrow(NoSuchElementException::new);
         final Station downStation = stationRepository.findById(request.getDownStationId())
                 .orElseThrow(NoSuchElementException::new);
 
-        line.addSection(new Section(line, upStation, downStation, request.getDistance()));
+        final Section section = new Section(line, upStation, downStation, request.getDistance());
+        final SectionChanges changes = line.addSection(section);
+        AfterCommit.run(() -> networkIndexes.apply(changes));
+        dataVersion.increase(DataVersion.LINES);
     }
 
+    @Retryable(value = ObjectOptimisticLockingFailureException.class, maxAttempts = 5, backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Timed("subway.service")
     public void removeSection(final Long id, final Long stationId) {
-        final Line line = lineRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        final Line line = lineRepository.findForUpdateById(id).orElseThrow(IllegalArgumentException::new);
         final Station station = stationRepository.findById(stationId).orElseThrow(NoSuchElementException::new);
 
-        line.removeSection(station);
+        final SectionChanges changes = line.removeSection(station);
+        AfterCommit.run(() -> networkIndexes.apply(changes));
+        dataVersion.increase(DataVersion.LINES);
+    }
+
+    private Line save(final Line line) {
+        try {
+            lineRepository.saveAndFlush(line);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateArgumentException("중복된 이름 입니다.");
+        }
+        AfterCommit.run(() -> lineNameIndex.add(line));
+        return line;
+    }
+
+    private void flush() {
+        try {
+            lineRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateArgumentException("중복된 이름 입니다.");
+        }
+    }
+
+    private List<Station> findRouteStations(final LineRouteRequest request) {
+        final List<Long> stationIds = request.getStationIds();
+        final List<Integer> distances = request.getDistances();
+        if (Objects.isNull(stationIds) || stationIds.size() < 2) {
+            throw new IllegalArgumentException("노선은 2 개 이상의 역으로 구성 되어야 합니다.");
+        }
+        if (Objects.isNull(distances) || distances.size() != stationIds.size() - 1) {
+            throw new IllegalArgumentException("구간 거리의 개수는 역의 개수 보다 1 작아야 합니다.");
+        }
+
+        final Map<Long, Station> stations = stationRepository.findAllById(new HashSet<>(stationIds)).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+        return stationIds.stream()
+                .map(stationId -> Optional.ofNullable(stations.get(stationId)).orElseThrow(NoSuchElementException::new))
+                .collect(Collectors.toList());
+    }
+
+    private List<LineResponse> findLinesByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return lineRepository.findAllWithStationsByIdIn(ids).stream()
+                .map(this::createLineResponse)
+                .collect(Collectors.toList());
     }
 
     private LineResponse createLineResponse(final Line line) {
@@ -0,0 +1,81 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.repository.TableVersion;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 역, 노선 테이블의 행 수, 최대 id, 최근 수정 시각과 노선 버전 합.
+ * 생성, 삭제, 수정, 구간 변경 중 하나라도 있으면 값이 바뀌므로 스냅샷이 DB 와 같은 상태 인지 확인 하는 데 쓴다.
+ */
+public class NetworkFingerprint {
+
+    private static final int SIZE = 7;
+
+    private final long[] values;
+
+    private NetworkFingerprint(final long[] values) {
+        this.values = values;
+    }
+
+    public static NetworkFingerprint of(final TableVersion stations, final TableVersion lines, final long lineVersionSum) {
+        return new NetworkFingerprint(new long[]{
+                stations.getCount(),
+                idOf(stations.getMaxId()),
+                nanosOf(stations.getModifiedDate()),
+                lines.getCount(),
+                idOf(lines.getMaxId()),
+                nanosOf(lines.getModifiedDate()),
+                lineVersionSum
+        });
+    }
+
+    static NetworkFingerprint read(final ByteBuffer buffer) {
+        final long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = buffer.getLong();
+        }
+        return new NetworkFingerprint(values);
+    }
+
+    void write(final DataOutput output) throws IOException {
+        for (final long value : values) {
+            output.writeLong(value);
+        }
+    }
+
+    private static long idOf(final Long id) {
+        return Objects.isNull(id) ? 0L : id;
+    }
+
+    private static long nanosOf(final LocalDateTime dateTime) {
+        if (Objects.isNull(dateTime)) {
+            return 0L;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final NetworkFingerprint that = (NetworkFingerprint) o;
+        return Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,75 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import nextstep.subway.domain.path.AllPairsDistances;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.RoutePlanner;
+import nextstep.subway.domain.repository.SectionRepository;
+import nextstep.subway.domain.repository.SectionStations;
+import nextstep.subway.domain.service.StationLineIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 구간으로 만든 메모리 색인들. 커밋 이후 같은 순서로 함께 고친다.
+ * {@link AllPairsDistances} 는 {@link PathFinder} 의 변경된 그래프를 읽으므로 마지막에 고친다.
+ */
+@Component
+public class NetworkIndexes {
+
+    private final SectionRepository sectionRepository;
+    private final PathFinder pathFinder;
+    private final RoutePlanner routePlanner;
+    private final StationLineIndex stationLineIndex;
+    private final AllPairsDistances allPairsDistances;
+
+    public NetworkIndexes(final SectionRepository sectionRepository,
+                          final PathFinder pathFinder,
+                          final RoutePlanner routePlanner,
+                          final StationLineIndex stationLineIndex,
+                          final AllPairsDistances allPairsDistances) {
+        this.sectionRepository = sectionRepository;
+        this.pathFinder = pathFinder;
+        this.routePlanner = routePlanner;
+        this.stationLineIndex = stationLineIndex;
+        this.allPairsDistances = allPairsDistances;
+    }
+
+    public void addSections(final Collection<Section> sections) {
+        sections.forEach(section -> {
+            pathFinder.addSection(section);
+            routePlanner.addSection(section);
+            stationLineIndex.addSection(section);
+        });
+        allPairsDistances.addSections(sections);
+    }
+
+    public void removeSections(final Collection<Section> sections) {
+        sections.forEach(section -> {
+            pathFinder.removeSection(section);
+            routePlanner.removeSection(section);
+            stationLineIndex.removeSection(section);
+        });
+        allPairsDistances.removeSections(sections);
+    }
+
+    public void apply(final SectionChanges changes) {
+        pathFinder.apply(changes);
+        routePlanner.apply(changes);
+        stationLineIndex.apply(changes);
+        allPairsDistances.apply(changes);
+    }
+
+    public void reload() {
+        load(sectionRepository.findAllStations());
+    }
+
+    public void load(final Collection<? extends SectionStations> sections) {
+        pathFinder.load(sections);
+        routePlanner.load(sections);
+        stationLineIndex.load(sections);
+        allPairsDistances.invalidate();
+    }
+}
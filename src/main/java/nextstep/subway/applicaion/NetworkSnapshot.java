@@ -0,0 +1,332 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.repository.SectionStations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 역, 노선, 노선 별 구간 순서를 담은 노선망 스냅샷.
+ * 재시작 때 DB 를 읽지 않고 메모리 색인과 목록 응답을 채우는 데 쓰며, {@link #getFingerprint()} 가 DB 와 같을 때만 유효하다.
+ *
+ * <pre>
+ * magic(int) format(int) fingerprint(long x 7)
+ * 역 수(int) { id(long) 이름 생성 시각 수정 시각 } ...
+ * 노선 수(int) { id(long) 이름 색상 생성 시각 수정 시각 구간 수(int) 상행 종점 id(long) { 거리(int) 하행 역 id(long) } ... } ...
+ * </pre>
+ * 문자열은 UTF-8 길이(int)와 바이트, 시각은 UTC 기준 초(long)와 나노초(int, 없으면 -1)로 쓴다.
+ * 읽을 때는 개수와 길이를 남은 바이트 수로 검사 해, 깨진 값으로 큰 배열을 만들지 않는다.
+ */
+public class NetworkSnapshot {
+
+    private static final int MAGIC = 0x53554257;
+    private static final int FORMAT = 1;
+    private static final int NO_DATE = -1;
+    private static final int DATE_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int STATION_MIN_BYTES = Long.BYTES + Integer.BYTES + DATE_BYTES * 2;
+    private static final int LINE_MIN_BYTES = Long.BYTES + Integer.BYTES * 2 + DATE_BYTES * 2 + Integer.BYTES + Long.BYTES;
+    private static final int SECTION_BYTES = Integer.BYTES + Long.BYTES;
+
+    private final NetworkFingerprint fingerprint;
+    private final List<StationEntry> stations;
+    private final List<LineEntry> lines;
+
+    public NetworkSnapshot(final NetworkFingerprint fingerprint,
+                           final List<StationEntry> stations,
+                           final List<LineEntry> lines) {
+        this.fingerprint = fingerprint;
+        this.stations = stations;
+        this.lines = lines;
+    }
+
+    public static NetworkSnapshot of(final NetworkFingerprint fingerprint,
+                                     final List<Station> stations,
+                                     final List<Line> lines) {
+        return new NetworkSnapshot(
+                fingerprint,
+                stations.stream()
+                        .map(StationEntry::from)
+                        .collect(Collectors.toList()),
+                lines.stream()
+                        .map(LineEntry::from)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    public static NetworkSnapshot decode(final ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+            throw new IllegalArgumentException("노선망 스냅샷 형식이 아닙니다.");
+        }
+
+        final NetworkFingerprint fingerprint = NetworkFingerprint.read(buffer);
+        final int stationCount = readCount(buffer, STATION_MIN_BYTES);
+        final List<StationEntry> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new StationEntry(buffer.getLong(), readString(buffer), readDate(buffer), readDate(buffer)));
+        }
+
+        final int lineCount = readCount(buffer, LINE_MIN_BYTES);
+        final List<LineEntry> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            final long id = buffer.getLong();
+            final String name = readString(buffer);
+            final String color = readString(buffer);
+            final LocalDateTime createdDate = readDate(buffer);
+            final LocalDateTime modifiedDate = readDate(buffer);
+            final int sectionCount = readCount(buffer, SECTION_BYTES);
+            final long[] stationIds = new long[sectionCount + 1];
+            final int[] distances = new int[sectionCount];
+            stationIds[0] = buffer.getLong();
+            for (int j = 0; j < sectionCount; j++) {
+                distances[j] = buffer.getInt();
+                stationIds[j + 1] = buffer.getLong();
+            }
+            lines.add(new LineEntry(id, name, color, createdDate, modifiedDate, stationIds, distances));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("노선망 스냅샷 뒤에 남은 바이트가 있습니다.");
+        }
+        return new NetworkSnapshot(fingerprint, stations, lines);
+    }
+
+    public byte[] encode() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + stations.size() * 48 + lines.size() * 64);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT);
+            fingerprint.write(output);
+
+            output.writeInt(stations.size());
+            for (final StationEntry station : stations) {
+                output.writeLong(station.id);
+                writeString(output, station.name);
+                writeDate(output, station.createdDate);
+                writeDate(output, station.modifiedDate);
+            }
+
+            output.writeInt(lines.size());
+            for (final LineEntry line : lines) {
+                output.writeLong(line.id);
+                writeString(output, line.name);
+                writeString(output, line.color);
+                writeDate(output, line.createdDate);
+                writeDate(output, line.modifiedDate);
+                output.writeInt(line.distances.length);
+                output.writeLong(line.stationIds[0]);
+                for (int i = 0; i < line.distances.length; i++) {
+                    output.writeInt(line.distances[i]);
+                    output.writeLong(line.stationIds[i + 1]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public NetworkFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<SectionStations> getSections() {
+        final List<SectionStations> sections = new ArrayList<>();
+        for (final LineEntry line : lines) {
+            for (int i = 0; i < line.distances.length; i++) {
+                sections.add(new SnapshotSection(line.id, line.stationIds[i], line.stationIds[i + 1], line.distances[i]));
+            }
+        }
+        return sections;
+    }
+
+    public Map<String, Long> getStationNames() {
+        return stations.stream()
+                .collect(Collectors.toMap(station -> station.name, station -> station.id));
+    }
+
+    public Map<String, Long> getLineNames() {
+        return lines.stream()
+                .collect(Collectors.toMap(line -> line.name, line -> line.id));
+    }
+
+    public List<StationResponse> toStationResponses() {
+        return stations.stream()
+                .map(StationEntry::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public List<LineResponse> toLineResponses() {
+        final Map<Long, StationResponse> stationResponses = toStationResponses().stream()
+                .collect(Collectors.toMap(StationResponse::getId, station -> station));
+
+        return lines.stream()
+                .map(line -> line.toResponse(stationResponses))
+                .collect(Collectors.toList());
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * 항목 하나가 적어도 {@code minBytes} 를 차지하므로 개수가 남은 바이트 수로 담을 수 있는 만큼 이하여야 한다.
+     */
+    private static int readCount(final ByteBuffer buffer, final int minBytes) {
+        final int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / minBytes) {
+            throw new IllegalArgumentException("노선망 스냅샷의 개수가 남은 크기를 넘습니다: " + count);
+        }
+        return count;
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[readCount(buffer, 1)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(final DataOutputStream output, final LocalDateTime dateTime) throws IOException {
+        if (Objects.isNull(dateTime)) {
+            output.writeLong(0L);
+            output.writeInt(NO_DATE);
+            return;
+        }
+        output.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDate(final ByteBuffer buffer) {
+        final long seconds = buffer.getLong();
+        final int nanos = buffer.getInt();
+        if (nanos == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    public static class StationEntry {
+
+        private final long id;
+        private final String name;
+        private final LocalDateTime createdDate;
+        private final LocalDateTime modifiedDate;
+
+        public StationEntry(final long id,
+                            final String name,
+                            final LocalDateTime createdDate,
+                            final LocalDateTime modifiedDate) {
+            this.id = id;
+            this.name = name;
+            this.createdDate = createdDate;
+            this.modifiedDate = modifiedDate;
+        }
+
+        private static StationEntry from(final Station station) {
+            return new StationEntry(station.getId(), station.getName(), station.getCreatedDate(), station.getModifiedDate());
+        }
+
+        private StationResponse toResponse() {
+            return new StationResponse(id, name, createdDate, modifiedDate);
+        }
+    }
+
+    public static class LineEntry {
+
+        private final long id;
+        private final String name;
+        private final String color;
+        private final LocalDateTime createdDate;
+        private final LocalDateTime modifiedDate;
+        private final long[] stationIds;
+        private final int[] distances;
+
+        public LineEntry(final long id,
+                         final String name,
+                         final String color,
+                         final LocalDateTime createdDate,
+                         final LocalDateTime modifiedDate,
+                         final long[] stationIds,
+                         final int[] distances) {
+            if (stationIds.length != distances.length + 1) {
+                throw new IllegalArgumentException("구간 거리의 개수는 역의 개수 보다 1 작아야 합니다.");
+            }
+            this.id = id;
+            this.name = name;
+            this.color = color;
+            this.createdDate = createdDate;
+            this.modifiedDate = modifiedDate;
+            this.stationIds = stationIds;
+            this.distances = distances;
+        }
+
+        private static LineEntry from(final Line line) {
+            final List<Section> sections = line.getOrderedSections();
+            final long[] stationIds = new long[sections.size() + 1];
+            final int[] distances = new int[sections.size()];
+            stationIds[0] = sections.get(0).getUpStation().getId();
+            for (int i = 0; i < sections.size(); i++) {
+                distances[i] = sections.get(i).getDistance();
+                stationIds[i + 1] = sections.get(i).getDownStation().getId();
+            }
+            return new LineEntry(line.getId(), line.getName(), line.getColor(), line.getCreatedDate(), line.getModifiedDate(),
+                    stationIds, distances);
+        }
+
+        private LineResponse toResponse(final Map<Long, StationResponse> stationResponses) {
+            final List<StationResponse> stations = new ArrayList<>(stationIds.length);
+            for (final long stationId : stationIds) {
+                stations.add(stationResponses.get(stationId));
+            }
+            return new LineResponse(id, name, color, stations, createdDate, modifiedDate);
+        }
+    }
+
+    private static class SnapshotSection implements SectionStations {
+
+        private final Long lineId;
+        private final Long upStationId;
+        private final Long downStationId;
+        private final int distance;
+
+        private SnapshotSection(final Long lineId, final Long upStationId, final Long downStationId, final int distance) {
+            this.lineId = lineId;
+            this.upStationId = upStationId;
+            this.downStationId = downStationId;
+            this.distance = distance;
+        }
+
+        @Override
+        public Long getLineId() {
+            return lineId;
+        }
+
+        @Override
+        public Long getUpStationId() {
+            return upStationId;
+        }
+
+        @Override
+        public Long getDownStationId() {
+            return downStationId;
+        }
+
+        @Override
+        public int getDistance() {
+            return distance;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package nextstep.subway.applicaion;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * 노선망 스냅샷 파일. 메모리 매핑으로 읽고 쓴다.
+ * 같은 디렉토리의 임시 파일에 다 쓴 뒤 이름을 바꾸므로, 쓰는 도중 종료 되어도 이전 스냅샷이 남는다.
+ * 스냅샷 뒤에 스냅샷 길이(long)와 CRC32(int)를 붙여 잘리거나 깨진 파일은 해석 하기 전에 거른다.
+ */
+public class NetworkSnapshotFile {
+
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path path;
+
+    public NetworkSnapshotFile(final Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    /**
+     * 파일이 없거나, 길이나 CRC32 가 맞지 않거나, 해석 하지 못하면 비어 있다.
+     * 기동 중에 읽으므로 해석 중 생긴 예외는 던지지 않고 DB 에서 다시 읽도록 비어 있는 것으로 돌려준다.
+     */
+    public Optional<NetworkSnapshot> read() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < TRAILER_SIZE) {
+                return Optional.empty();
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final int length = Math.toIntExact(size - TRAILER_SIZE);
+            final ByteBuffer body = buffer.slice(0, length);
+            if (buffer.getLong(length) != length || buffer.getInt(length + Long.BYTES) != checksum(body.duplicate())) {
+                return Optional.empty();
+            }
+            return Optional.of(NetworkSnapshot.decode(body));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void write(final NetworkSnapshot snapshot) {
+        final byte[] bytes = snapshot.encode();
+        try {
+            Files.createDirectories(path.getParent());
+            final Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes.length + TRAILER_SIZE);
+                    buffer.put(bytes);
+                    buffer.putLong(bytes.length);
+                    buffer.putInt(checksum(ByteBuffer.wrap(bytes)));
+                    buffer.force();
+                }
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int checksum(final ByteBuffer bytes) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        return (int) crc32.getValue();
+    }
+}
@@ -0,0 +1,101 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.repository.LineRepository;
+import nextstep.subway.domain.repository.StationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 노선망 스냅샷 파일을 다시 쓰고, 재시작 때 DB 와 같은 상태의 스냅샷을 찾아 준다.
+ * 변경 마다 쓰지 않고 {@code subway.network-snapshot.write-interval} 마다 마지막으로 쓴 역, 노선 버전과 비교해 바뀌었을 때만 한 번 쓴다.
+ * 그 사이에 재시작 하면 파일의 지문이 DB 와 달라 쓰지 않으므로 늦게 쓰여도 틀린 스냅샷을 읽지 않는다.
+ * {@code subway.network-snapshot.path} 가 비어 있으면 아무 것도 하지 않는다.
+ */
+@Service
+public class NetworkSnapshotService {
+
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataVersion dataVersion;
+    private final NetworkSnapshotFile file;
+    private volatile long writtenStationsVersion;
+    private volatile long writtenLinesVersion;
+
+    public NetworkSnapshotService(final StationRepository stationRepository,
+                                  final LineRepository lineRepository,
+                                  final DataVersion dataVersion,
+                                  final PlatformTransactionManager transactionManager,
+                                  @Value("${subway.network-snapshot.path:}") final String path) {
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+        this.dataVersion = dataVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.file = path.isBlank() ? null : new NetworkSnapshotFile(Path.of(path));
+    }
+
+    public boolean isEnabled() {
+        return Objects.nonNull(file);
+    }
+
+    /**
+     * 파일의 지문이 지금 DB 의 지문과 같을 때만 스냅샷을 돌려준다.
+     */
+    public Optional<NetworkSnapshot> findCurrent() {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        final long stationsVersion = dataVersion.get(DataVersion.STATIONS);
+        final long linesVersion = dataVersion.get(DataVersion.LINES);
+        final Optional<NetworkSnapshot> current = file.read()
+                .filter(snapshot -> snapshot.getFingerprint().equals(transactionTemplate.execute(status -> fingerprint())));
+        current.ifPresent(snapshot -> written(stationsVersion, linesVersion));
+        return current;
+    }
+
+    public synchronized void write() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        // 버전을 먼저 읽어야 조회 도중 변경이 생겨도 다음 주기 에서 다시 쓴다.
+        final long stationsVersion = dataVersion.get(DataVersion.STATIONS);
+        final long linesVersion = dataVersion.get(DataVersion.LINES);
+        file.write(transactionTemplate.execute(status -> {
+            // 지문을 먼저 읽어야 조회 도중 변경이 생겨도 스냅샷이 실제 보다 새 상태를 가리키지 않는다.
+            final NetworkFingerprint fingerprint = fingerprint();
+            return NetworkSnapshot.of(fingerprint, stationRepository.findAll(), lineRepository.findAllWithStations());
+        }));
+        written(stationsVersion, linesVersion);
+    }
+
+    @Scheduled(fixedDelayString = "${subway.network-snapshot.write-interval}")
+    public void writeIfChanged() {
+        if (isEnabled() && (dataVersion.get(DataVersion.STATIONS) != writtenStationsVersion
+                || dataVersion.get(DataVersion.LINES) != writtenLinesVersion)) {
+            write();
+        }
+    }
+
+    private synchronized void written(final long stationsVersion, final long linesVersion) {
+        writtenStationsVersion = stationsVersion;
+        writtenLinesVersion = linesVersion;
+    }
+
+    private NetworkFingerprint fingerprint() {
+        return NetworkFingerprint.of(
+                stationRepository.findTableVersion(),
+                lineRepository.findTableVersion(),
+                lineRepository.sumVersions()
+        );
+    }
+}
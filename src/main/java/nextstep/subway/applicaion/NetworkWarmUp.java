@@ -0,0 +1,65 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.repository.LineRepository;
+import nextstep.subway.domain.repository.StationRepository;
+import nextstep.subway.domain.service.NameIndex;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Optional;
+
+/**
+ * 기동 때 메모리 색인과 목록 응답 스냅샷을 채운다.
+ * DB 와 같은 상태의 노선망 스냅샷 파일이 있으면 엔티티를 읽지 않고 파일 만으로 채우고, 없으면 DB 에서 읽은 뒤 파일을 쓴다.
+ */
+@Component
+public class NetworkWarmUp {
+
+    private final NetworkSnapshotService networkSnapshotService;
+    private final NetworkIndexes networkIndexes;
+    private final JsonSnapshotService jsonSnapshotService;
+    private final NameIndex<Station> stationNameIndex;
+    private final NameIndex<Line> lineNameIndex;
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+
+    public NetworkWarmUp(final NetworkSnapshotService networkSnapshotService,
+                         final NetworkIndexes networkIndexes,
+                         final JsonSnapshotService jsonSnapshotService,
+                         final NameIndex<Station> stationNameIndex,
+                         final NameIndex<Line> lineNameIndex,
+                         final StationRepository stationRepository,
+                         final LineRepository lineRepository) {
+        this.networkSnapshotService = networkSnapshotService;
+        this.networkIndexes = networkIndexes;
+        this.jsonSnapshotService = jsonSnapshotService;
+        this.stationNameIndex = stationNameIndex;
+        this.lineNameIndex = lineNameIndex;
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+    }
+
+    @PostConstruct
+    public void warmUp() {
+        final Optional<NetworkSnapshot> snapshot = networkSnapshotService.findCurrent();
+        if (snapshot.isPresent()) {
+            load(snapshot.get());
+            return;
+        }
+
+        networkIndexes.reload();
+        stationNameIndex.load(stationRepository.findAll());
+        lineNameIndex.load(lineRepository.findAll());
+        networkSnapshotService.write();
+    }
+
+    private void load(final NetworkSnapshot snapshot) {
+        networkIndexes.load(snapshot.getSections());
+        stationNameIndex.load(snapshot.getStationNames());
+        lineNameIndex.load(snapshot.getLineNames());
+        jsonSnapshotService.prime(DataVersion.STATIONS, snapshot.toStationResponses());
+        jsonSnapshotService.prime(DataVersion.LINES, snapshot.toLineResponses());
+    }
+}
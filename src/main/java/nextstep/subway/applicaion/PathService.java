@@ -0,0 +1,100 @@
+package nextstep.subway.applicaion;
+
+import io.micrometer.core.annotation.Timed;
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.RouteResponse;
+import nextstep.subway.applicaion.dto.StationLineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.path.AllPairsDistances;
+import nextstep.subway.domain.path.Path;
+import nextstep.subway.domain.path.PathFinder;
+import nextstep.subway.domain.path.Route;
+import nextstep.subway.domain.path.RoutePlanner;
+import nextstep.subway.domain.repository.LineRepository;
+import nextstep.subway.domain.repository.StationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class PathService {
+
+    private final PathFinder pathFinder;
+    private final RoutePlanner routePlanner;
+    private final AllPairsDistances allPairsDistances;
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+
+    public PathService(final PathFinder pathFinder,
+                       final RoutePlanner routePlanner,
+                       final AllPairsDistances allPairsDistances,
+                       final StationRepository stationRepository,
+                       final LineRepository lineRepository) {
+        this.pathFinder = pathFinder;
+        this.routePlanner = routePlanner;
+        this.allPairsDistances = allPairsDistances;
+        this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
+    }
+
+    @Timed("subway.service")
+    public PathResponse findPath(final Long source, final Long target) {
+        final Path path = pathFinder.find(source, target);
+        final Map<Long, Station> stations = stationRepository.findAllById(path.getStationIds()).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+
+        final List<StationResponse> stationResponses = path.getStationIds().stream()
+                .map(stations::get)
+                .map(StationResponse::from)
+                .collect(Collectors.toList());
+        return new PathResponse(stationResponses, path.getDistance());
+    }
+
+    @Timed("subway.service")
+    public List<RouteResponse> findRoutes(final Long source, final Long target) {
+        final List<Route> routes = routePlanner.find(source, target);
+        final Map<Long, StationResponse> stations = stationRepository.findAllById(collect(routes, Route::getStationIds)).stream()
+                .collect(Collectors.toMap(Station::getId, StationResponse::from));
+        final Map<Long, StationLineResponse> lines = lineRepository.findAllById(collect(routes, Route::getLineIds)).stream()
+                .collect(Collectors.toMap(Line::getId, StationLineResponse::from));
+
+        return routes.stream()
+                .map(route -> new RouteResponse(
+                        route.getStationIds().stream().map(stations::get).collect(Collectors.toList()),
+                        route.getLineIds().stream().map(lines::get).collect(Collectors.toList()),
+                        route.getDistance(),
+                        route.getTransfers()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 미리 계산한 거리 행렬 에서 찾으므로 역 조회 없이 O(1) 이다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed("subway.service")
+    public DistanceResponse findDistance(final Long source, final Long target) {
+        final int distance = allPairsDistances.find(source, target)
+                .orElseThrow(() -> new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다."));
+
+        return new DistanceResponse(source, target, distance);
+    }
+
+    private Set<Long> collect(final List<Route> routes, final Function<Route, Collection<Long>> ids) {
+        return routes.stream()
+                .map(ids)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+    }
+}
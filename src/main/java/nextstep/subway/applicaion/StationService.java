@@ -1,34 +1,115 @@
 package nextstep.subway.applicaion;
 
+import io.micrometer.core.annotation.Timed;
+import nextstep.subway.applicaion.dto.StationBulkResponse;
+import nextstep.subway.applicaion.dto.StationBulkRowResponse;
+import nextstep.subway.applicaion.dto.StationLineResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.entity.Line;
 import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.repository.LineRepository;
 import nextstep.subway.domain.repository.StationRepository;
+import nextstep.subway.domain.service.DuplicateArgumentException;
+import nextstep.subway.domain.service.NameIndex;
+import nextstep.subway.domain.service.StationLineIndex;
 import nextstep.subway.domain.service.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Transactional
 public class StationService {
 
     private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
     private final Validator<Station> stationValidator;
+    private final NameIndex<Station> stationNameIndex;
+    private final StationLineIndex stationLineIndex;
+    private final DataVersion dataVersion;
 
-    public StationService(final StationRepository stationRepository, final Validator<Station> stationValidator) {
+    public StationService(final StationRepository stationRepository,
+                          final LineRepository lineRepository,
+                          final Validator<Station> stationValidator,
+                          final NameIndex<Station> stationNameIndex,
+                          final StationLineIndex stationLineIndex,
+                          final DataVersion dataVersion) {
         this.stationRepository = stationRepository;
+        this.lineRepository = lineRepository;
         this.stationValidator = stationValidator;
+        this.stationNameIndex = stationNameIndex;
+        this.stationLineIndex = stationLineIndex;
+        this.dataVersion = dataVersion;
     }
 
+    @Timed("subway.service")
     public StationResponse saveStation(final StationRequest stationRequest) {
-        Station station = stationRepository.save(new Station(stationRequest.getName(), stationValidator));
+        Station station = new Station(stationRequest.getName(), stationValidator);
+        saveAll(List.of(station));
+        dataVersion.increase(DataVersion.STATIONS);
         return createStationResponse(station);
     }
 
+    @Timed("subway.service")
+    public StationBulkResponse saveStations(final List<StationRequest> stationRequests) {
+        return saveStations(stationRequests, IntStream.rangeClosed(1, stationRequests.size()).toArray(), List.of());
+    }
+
+    /**
+     * 요청 마다 입력의 행 번호를 받아 결과에 쓰고, 입력에서 건너뛴 행도 결과에 함께 행 번호 순으로 담는다.
+     */
+    @Timed("subway.service")
+    public StationBulkResponse saveStations(final List<StationRequest> stationRequests,
+                                            final int[] rowNumbers,
+                                            final List<StationBulkRowResponse> skippedRows) {
+        final Set<String> names = new HashSet<>();
+        final Validator<Station> bulkValidator = station -> {
+            if (Objects.isNull(station.getName()) || station.getName().isBlank()) {
+                throw new IllegalArgumentException("역의 이름은 필수 입니다.");
+            }
+            if (stationNameIndex.contains(station.getName()) || !names.add(station.getName())) {
+                throw new DuplicateArgumentException("중복된 이름 입니다.");
+            }
+        };
+
+        final Station[] stations = new Station[stationRequests.size()];
+        final String[] errors = new String[stationRequests.size()];
+        for (int i = 0; i < stationRequests.size(); i++) {
+            try {
+                stations[i] = new Station(stationRequests.get(i).getName(), bulkValidator);
+            } catch (IllegalArgumentException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+
+        final List<Station> createdStations = new ArrayList<>(stations.length);
+        Arrays.stream(stations).filter(Objects::nonNull).forEach(createdStations::add);
+        saveAll(createdStations);
+        if (!createdStations.isEmpty()) {
+            dataVersion.increase(DataVersion.STATIONS);
+        }
+
+        final List<StationBulkRowResponse> rows = new ArrayList<>(stations.length + skippedRows.size());
+        for (int i = 0; i < stations.length; i++) {
+            final String name = stationRequests.get(i).getName();
+            rows.add(Objects.nonNull(stations[i])
+                    ? StationBulkRowResponse.created(rowNumbers[i], name, stations[i].getId())
+                    : StationBulkRowResponse.failed(rowNumbers[i], name, errors[i]));
+        }
+        rows.addAll(skippedRows);
+        rows.sort(Comparator.comparingInt(StationBulkRowResponse::getRow));
+        return new StationBulkResponse(createdStations.size(), stations.length - createdStations.size(), skippedRows.size(), rows);
+    }
+
     @Transactional(readOnly = true)
+    @Timed("subway.service")
     public List<StationResponse> findAllStations() {
         List<Station> stations = stationRepository.findAll();
 
@@ -37,8 +118,76 @@ public class StationService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Timed("subway.service")
+    public List<StationResponse> findStations(final Long after, final int limit) {
+        return stationRepository.findByIdGreaterThan(after, KeysetPageable.of(limit)).stream()
+                .map(this::createStationResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Timed("subway.service")
+    public void streamStations(final Consumer<StationResponse> consumer) {
+        List<Station> stations = stationRepository.findByIdGreaterThan(0L, KeysetPageable.of(KeysetPageable.STREAM_BATCH_SIZE));
+        while (!stations.isEmpty()) {
+            stations.stream()
+                    .map(this::createStationResponse)
+                    .forEach(consumer);
+            if (stations.size() < KeysetPageable.STREAM_BATCH_SIZE) {
+                return;
+            }
+
+            final Long after = stations.get(stations.size() - 1).getId();
+            stations = stationRepository.findByIdGreaterThan(after, KeysetPageable.of(KeysetPageable.STREAM_BATCH_SIZE));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Timed("subway.service")
+    public List<StationLineResponse> findLinesByStationId(final Long id) {
+        if (!stationRepository.existsById(id)) {
+            throw new IllegalArgumentException("존재하지 않는 역 입니다.");
+        }
+
+        final Set<Long> lineIds = stationLineIndex.getLineIds(id);
+        if (lineIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return lineRepository.findAllById(lineIds).stream()
+                .sorted(Comparator.comparing(Line::getId))
+                .map(StationLineResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 노선에 등록된 역인지는 역-노선 색인으로 먼저 거른다.
+     * 색인은 커밋 이후에 바뀌므로 동시에 구간이 등록된 역은 색인을 지나칠 수 있어, 삭제를 바로 반영해 외래 키 위반도 같은 오류로 돌려준다.
+     */
+    @Timed("subway.service")
     public void deleteStationById(final Long id) {
-        stationRepository.deleteById(id);
+        final Station station = stationRepository.findById(id).orElseThrow(IllegalArgumentException::new);
+        if (stationLineIndex.isServed(id)) {
+            throw new IllegalArgumentException("노선에 등록된 역은 삭제할 수 없습니다.");
+        }
+        try {
+            stationRepository.delete(station);
+            stationRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("노선에 등록된 역은 삭제할 수 없습니다.");
+        }
+        AfterCommit.run(() -> stationNameIndex.remove(station));
+        dataVersion.increase(DataVersion.STATIONS);
+    }
+
+    private void saveAll(final List<Station> stations) {
+        try {
+            stationRepository.saveAll(stations);
+            stationRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateArgumentException("중복된 이름 입니다.");
+        }
+        AfterCommit.run(() -> stations.forEach(stationNameIndex::add));
     }
 
     private StationResponse createStationResponse(final Station station) {
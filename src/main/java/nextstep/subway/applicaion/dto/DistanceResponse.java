@@ -0,0 +1,26 @@
+package nextstep.subway.applicaion.dto;
+
+public class DistanceResponse {
+
+    private Long source;
+    private Long target;
+    private int distance;
+
+    public DistanceResponse(final Long source, final Long target, final int distance) {
+        this.source = source;
+        this.target = target;
+        this.distance = distance;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
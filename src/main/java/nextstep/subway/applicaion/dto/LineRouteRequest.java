@@ -0,0 +1,27 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class LineRouteRequest {
+
+    private String name;
+    private String color;
+    private List<Long> stationIds;
+    private List<Integer> distances;
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public List<Integer> getDistances() {
+        return distances;
+    }
+}
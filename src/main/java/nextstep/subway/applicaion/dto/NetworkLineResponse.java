@@ -0,0 +1,89 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NetworkLineResponse {
+
+    private Long id;
+    private String name;
+    private String color;
+    private List<Long> stationIds;
+    private List<Integer> distances;
+    private LocalDateTime createdDate;
+    private LocalDateTime modifiedDate;
+
+    public NetworkLineResponse(Long id,
+                               String name,
+                               String color,
+                               List<Long> stationIds,
+                               List<Integer> distances,
+                               LocalDateTime createdDate,
+                               LocalDateTime modifiedDate) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.stationIds = stationIds;
+        this.distances = distances;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+
+    /**
+     * {@code distances[i]} 는 {@code stationIds[i]} 와 {@code stationIds[i + 1]} 사이 구간의 거리 이다.
+     */
+    public static NetworkLineResponse from(final Line line) {
+        final List<Section> sections = line.getOrderedSections();
+        final List<Long> stationIds = new ArrayList<>(sections.size() + 1);
+        final List<Integer> distances = new ArrayList<>(sections.size());
+        if (!sections.isEmpty()) {
+            stationIds.add(sections.get(0).getUpStation().getId());
+        }
+        for (final Section section : sections) {
+            stationIds.add(section.getDownStation().getId());
+            distances.add(section.getDistance());
+        }
+
+        return new NetworkLineResponse(
+                line.getId(),
+                line.getName(),
+                line.getColor(),
+                stationIds,
+                distances,
+                line.getCreatedDate(),
+                line.getModifiedDate()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public List<Integer> getDistances() {
+        return distances;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public LocalDateTime getModifiedDate() {
+        return modifiedDate;
+    }
+}
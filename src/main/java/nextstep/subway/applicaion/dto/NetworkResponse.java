@@ -0,0 +1,22 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class NetworkResponse {
+
+    private List<StationResponse> stations;
+    private List<NetworkLineResponse> lines;
+
+    public NetworkResponse(List<StationResponse> stations, List<NetworkLineResponse> lines) {
+        this.stations = stations;
+        this.lines = lines;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<NetworkLineResponse> getLines() {
+        return lines;
+    }
+}
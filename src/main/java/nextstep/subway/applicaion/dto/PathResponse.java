@@ -0,0 +1,22 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class PathResponse {
+
+    private List<StationResponse> stations;
+    private int distance;
+
+    public PathResponse(final List<StationResponse> stations, final int distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
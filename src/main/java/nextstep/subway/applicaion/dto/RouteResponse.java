@@ -0,0 +1,37 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class RouteResponse {
+
+    private List<StationResponse> stations;
+    private List<StationLineResponse> lines;
+    private int distance;
+    private int transfers;
+
+    public RouteResponse(final List<StationResponse> stations,
+                         final List<StationLineResponse> lines,
+                         final int distance,
+                         final int transfers) {
+        this.stations = stations;
+        this.lines = lines;
+        this.distance = distance;
+        this.transfers = transfers;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public List<StationLineResponse> getLines() {
+        return lines;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+}
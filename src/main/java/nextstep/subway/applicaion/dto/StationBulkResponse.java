@@ -0,0 +1,34 @@
+package nextstep.subway.applicaion.dto;
+
+import java.util.List;
+
+public class StationBulkResponse {
+
+    private int created;
+    private int failed;
+    private int skipped;
+    private List<StationBulkRowResponse> rows;
+
+    public StationBulkResponse(final int created, final int failed, final int skipped, final List<StationBulkRowResponse> rows) {
+        this.created = created;
+        this.failed = failed;
+        this.skipped = skipped;
+        this.rows = rows;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public List<StationBulkRowResponse> getRows() {
+        return rows;
+    }
+}
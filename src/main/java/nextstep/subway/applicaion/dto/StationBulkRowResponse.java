@@ -0,0 +1,50 @@
+package nextstep.subway.applicaion.dto;
+
+public class StationBulkRowResponse {
+
+    private int row;
+    private String name;
+    private Long id;
+    private String error;
+    private String skipped;
+
+    public StationBulkRowResponse(final int row, final String name, final Long id, final String error, final String skipped) {
+        this.row = row;
+        this.name = name;
+        this.id = id;
+        this.error = error;
+        this.skipped = skipped;
+    }
+
+    public static StationBulkRowResponse created(final int row, final String name, final Long id) {
+        return new StationBulkRowResponse(row, name, id, null, null);
+    }
+
+    public static StationBulkRowResponse failed(final int row, final String name, final String error) {
+        return new StationBulkRowResponse(row, name, null, error, null);
+    }
+
+    public static StationBulkRowResponse skipped(final int row, final String name, final String reason) {
+        return new StationBulkRowResponse(row, name, null, null, reason);
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getSkipped() {
+        return skipped;
+    }
+}
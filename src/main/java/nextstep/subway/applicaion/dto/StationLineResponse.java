@@ -0,0 +1,32 @@
+package nextstep.subway.applicaion.dto;
+
+import nextstep.subway.domain.entity.Line;
+
+public class StationLineResponse {
+
+    private Long id;
+    private String name;
+    private String color;
+
+    public StationLineResponse(final Long id, final String name, final String color) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+    }
+
+    public static StationLineResponse from(final Line line) {
+        return new StationLineResponse(line.getId(), line.getName(), line.getColor());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+}
@@ -3,6 +3,13 @@ package nextstep.subway.applicaion.dto;
 public class StationRequest {
     private String name;
 
+    public StationRequest() {
+    }
+
+    public StationRequest(final String name) {
+        this.name = name;
+    }
+
     public String getName() {
         return name;
     }
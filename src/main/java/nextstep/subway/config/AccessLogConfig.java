@@ -0,0 +1,21 @@
+package nextstep.subway.config;
+
+import nextstep.subway.config.accesslog.CaptureTeeFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class AccessLogConfig {
+
+    // 본문 전체를 메모리에 담아야 하므로 지정한 경로나, 허용한 주소 에서 헤더를 붙여 보낸 요청만 캡처 한다.
+    @Bean
+    public FilterRegistrationBean<CaptureTeeFilter> captureTeeFilter(@Value("${subway.access-log.capture.paths:}") final List<String> paths,
+                                                                    @Value("${subway.access-log.capture.header:}") final String header,
+                                                                    @Value("${subway.access-log.capture.header-addresses:}") final List<String> headerAddresses) {
+        return new FilterRegistrationBean<>(new CaptureTeeFilter(paths, header, headerAddresses));
+    }
+}
@@ -0,0 +1,27 @@
+package nextstep.subway.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(final CacheProperties cacheProperties) {
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        cacheManager.setAllowNullValues(false);
+
+        // 캐시 쓰기를 트랜잭션 커밋 이후로 미룬다. 커밋 전에 읽은 값이 늦게 캐시 되는 경우는 키에 데이터 버전을 넣어 막는다.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
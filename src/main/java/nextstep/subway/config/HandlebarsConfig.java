@@ -0,0 +1,19 @@
+package nextstep.subway.config;
+
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
+import com.github.jknack.handlebars.cache.TemplateCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HandlebarsConfig {
+
+    /**
+     * handlebars-spring-boot-starter 의 HandlebarsCacheConfiguration 은 자기가 만드는 TemplateCache 빈을 자기 필드에 주입 받아 순환 참조가 생긴다.
+     * TemplateCache 빈을 여기서 만들면 그 빈 정의가 빠지므로 순환 참조를 허용 하지 않아도 된다.
+     */
+    @Bean
+    public TemplateCache templateCache() {
+        return new ConcurrentMapTemplateCache();
+    }
+}
@@ -0,0 +1,21 @@
+package nextstep.subway.config;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.service.NameIndex;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NameIndexConfig {
+
+    @Bean
+    public NameIndex<Station> stationNameIndex() {
+        return new NameIndex<>(Station::getName, Station::getId);
+    }
+
+    @Bean
+    public NameIndex<Line> lineNameIndex() {
+        return new NameIndex<>(Line::getName, Line::getId);
+    }
+}
@@ -0,0 +1,13 @@
+package nextstep.subway.config.accesslog;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+
+    // 요청이 끝나면 톰캣이 요청 객체를 재사용 하므로 큐에 넣기 전에 필요한 값을 복사해 둔다.
+    @Override
+    protected void preprocess(final IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
@@ -0,0 +1,49 @@
+package nextstep.subway.config.accesslog;
+
+import ch.qos.logback.access.servlet.TeeFilter;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+
+public class CaptureTeeFilter extends TeeFilter {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<String> paths;
+    private final String header;
+    private final List<String> headerAddresses;
+
+    /**
+     * 요청 헤더로 캡처를 켜는 것은 {@code headerAddresses} 에서 온 요청만 허용 한다.
+     * 누구나 본문 전체를 메모리에 담게 할 수 없도록, 목록이 비어 있으면 헤더를 무시 한다.
+     */
+    public CaptureTeeFilter(final List<String> paths, final String header, final List<String> headerAddresses) {
+        this.paths = paths;
+        this.header = header;
+        this.headerAddresses = headerAddresses;
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+        if (isCaptured((HttpServletRequest) request)) {
+            super.doFilter(request, response, chain);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private boolean isCaptured(final HttpServletRequest request) {
+        if (StringUtils.hasText(header) && StringUtils.hasText(request.getHeader(header))
+                && headerAddresses.contains(request.getRemoteAddr())) {
+            return true;
+        }
+        return paths.stream().anyMatch(path -> pathMatcher.match(path, request.getRequestURI()));
+    }
+}
@@ -0,0 +1,21 @@
+package nextstep.subway.config.accesslog;
+
+import ch.qos.logback.access.AccessConstants;
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Objects;
+
+public class CapturedRequestFilter extends Filter<IAccessEvent> {
+
+    @Override
+    public FilterReply decide(final IAccessEvent event) {
+        final HttpServletRequest request = event.getRequest();
+        if (Objects.isNull(request) || Objects.isNull(request.getAttribute(AccessConstants.LB_INPUT_BUFFER))) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,26 @@
+package nextstep.subway.config.accesslog;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SamplingFilter extends Filter<IAccessEvent> {
+
+    private static final int SERVER_ERROR = 500;
+
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(final IAccessEvent event) {
+        if (event.getStatusCode() >= SERVER_ERROR) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setRate(final double rate) {
+        this.rate = rate;
+    }
+}
@@ -9,10 +9,14 @@ import java.util.*;
 public class Line extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "line_seq_generator")
+    @SequenceGenerator(name = "line_seq_generator", sequenceName = "line_seq", allocationSize = 50)
     private Long id;
+    @Column(unique = true)
     private String name;
     private String color;
+    @Version
+    private Long version;
 
     @Embedded
     private final Sections sections = new Sections();
@@ -34,6 +38,17 @@ public class Line extends BaseEntity {
         addSection(new Section(this, upStation, downStation, distance));
     }
 
+    public Line(final Long id,
+                final String name,
+                final String color,
+                final Station upStation,
+                final Station downStation,
+                final int distance,
+                final Validator<Line> lineValidator) {
+        this(name, color, upStation, downStation, distance, lineValidator);
+        this.id = id;
+    }
+
     public Long getId() {
         return id;
     }
@@ -50,6 +65,14 @@ public class Line extends BaseEntity {
         return sections.getStations();
     }
 
+    public List<Section> getSections() {
+        return sections.getSections();
+    }
+
+    public List<Section> getOrderedSections() {
+        return sections.getOrderedSections();
+    }
+
     public void change(final String name, final String color, final Validator<Line> lineValidator) {
         this.name = name;
         this.color = color;
@@ -57,12 +80,12 @@ public class Line extends BaseEntity {
         lineValidator.validate(this);
     }
 
-    public void addSection(final Section section) {
-        this.sections.add(section);
+    public SectionChanges addSection(final Section section) {
+        return this.sections.add(section);
     }
 
-    public void removeSection(final Station station) {
-        this.sections.remove(station);
+    public SectionChanges removeSection(final Station station) {
+        return this.sections.remove(station);
     }
 
     @Override
@@ -7,7 +7,8 @@ import java.util.Objects;
 public class Section {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "section_seq_generator")
+    @SequenceGenerator(name = "section_seq_generator", sequenceName = "section_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(cascade = CascadeType.PERSIST)
@@ -24,6 +25,12 @@ public class Section {
 
     private int distance;
 
+    @Transient
+    private Section previous;
+
+    @Transient
+    private Section next;
+
     public Section() {
     }
 
@@ -39,6 +46,10 @@ public class Section {
         this.id = id;
     }
 
+    public Long getId() {
+        return id;
+    }
+
     public Line getLine() {
         return line;
     }
@@ -55,6 +66,60 @@ public class Section {
         return distance;
     }
 
+    Section copy() {
+        return new Section(id, line, upStation, downStation, distance);
+    }
+
+    /**
+     * 구간의 상행 쪽을 잘라 내고 상행 역을 {@code upStation} 으로 옮긴다.
+     */
+    void shrinkFromUp(final Station upStation, final int distance) {
+        this.upStation = upStation;
+        this.distance -= distance;
+    }
+
+    /**
+     * 구간의 하행 쪽을 잘라 내고 하행 역을 {@code downStation} 으로 옮긴다.
+     */
+    void shrinkFromDown(final Station downStation, final int distance) {
+        this.downStation = downStation;
+        this.distance -= distance;
+    }
+
+    /**
+     * 바로 뒤 구간을 흡수해 하행 역을 그 구간의 하행 역으로 옮기고 거리를 더한다.
+     */
+    void extendToDown(final Section next) {
+        this.downStation = next.downStation;
+        this.distance += next.distance;
+    }
+
+    Section getPrevious() {
+        return previous;
+    }
+
+    Section getNext() {
+        return next;
+    }
+
+    void link(final Section next) {
+        this.next = next;
+        if (next != null) {
+            next.previous = this;
+        }
+    }
+
+    void unlink() {
+        if (previous != null) {
+            previous.next = null;
+        }
+        if (next != null) {
+            next.previous = null;
+        }
+        previous = null;
+        next = null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,31 @@
+package nextstep.subway.domain.entity;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 구간 변경 전후로 노선망에서 사라진 간선과 새로 생긴 간선.
+ * 변경 전 간선은 엔티티가 바뀌기 전에 복사해 둔 값이다.
+ */
+public class SectionChanges {
+
+    private final List<Section> removed;
+    private final List<Section> added;
+
+    SectionChanges(final List<Section> removed, final List<Section> added) {
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    static SectionChanges added(final Section section) {
+        return new SectionChanges(Collections.emptyList(), Collections.singletonList(section));
+    }
+
+    public List<Section> getRemoved() {
+        return removed;
+    }
+
+    public List<Section> getAdded() {
+        return added;
+    }
+}
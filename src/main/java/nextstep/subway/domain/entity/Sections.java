@@ -5,20 +5,27 @@ import javax.persistence.Embeddable;
 import javax.persistence.OneToMany;
 import javax.persistence.Transient;
 import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
+/**
+ * 노선의 구간 목록. 영속 되는 것은 순서 없는 구간 목록이고, 처음 쓸 때 역 색인과 앞뒤 구간 연결을 만들어 순서를 따라간다.
+ * 등록과 제거는 색인으로 위치를 찾고 앞뒤 연결만 바꾸지만, 지운 구간을 영속 목록에서 빼는 것은 목록을 훑으므로 구간 수에 비례한다.
+ * 구간은 id 로 같음을 비교해 저장 전 구간 끼리 구별 되지 않으므로 목록을 집합으로 바꾸지 않고, 목록 에서 뺄 때도 같은 객체를 찾는다.
+ */
 @Embeddable
 public class Sections {
 
-    @Transient
-    private final static String UP_STATION_SET = "UP_STATION_SET";
-    @Transient
-    private final static String DOWN_STATION_SET = "DOWN_STATION_SET";
-
     @OneToMany(mappedBy = "line", cascade = {CascadeType.PERSIST, CascadeType.MERGE}, orphanRemoval = true)
     private List<Section> sections = new ArrayList<>();
 
+    @Transient
+    private Map<Station, Section> sectionsByUpStation;
+    @Transient
+    private Map<Station, Section> sectionsByDownStation;
+    @Transient
+    private Section head;
+    @Transient
+    private Section tail;
+
     public Sections() {
     }
 
@@ -26,84 +33,247 @@ public class Sections {
         this.sections = sections;
     }
 
-    public void add(final Section section) {
+    /**
+     * 구간을 등록한다. 상행 종점 앞, 하행 종점 뒤, 또는 기존 구간 사이에 등록할 수 있다.
+     * 역 색인으로 붙일 위치를 찾고 앞뒤 구간의 연결만 바꾸므로 전체 순서를 다시 만들지 않는다.
+     */
+    public SectionChanges add(final Section section) {
+        chain();
+
         if (sections.isEmpty()) {
             sections.add(section);
-            return;
+            index(section);
+            head = section;
+            tail = section;
+            return SectionChanges.added(section);
         }
 
         final Station upStation = section.getUpStation();
         final Station downStation = section.getDownStation();
+        final boolean containsUpStation = contains(upStation);
+        final boolean containsDownStation = contains(downStation);
 
-        final Station endingStation = getEndingStation();
-        if (!endingStation.equals(upStation)) {
-            throw new IllegalArgumentException("노선에 등록된 하행 종점 역이 아닌 역을 상행 역으로 설정할 수 없습니다.");
-        }
-
-        getStations().stream().filter(downStation::equals).findAny().ifPresent(station -> {
+        if (containsUpStation && containsDownStation) {
             throw new IllegalArgumentException("이미 노선에 구간 으로 등록된 역을 하행 역으로 설정할 수 없습니다.");
-        });
+        }
+        if (!containsUpStation && !containsDownStation) {
+            throw new IllegalArgumentException("상행 역과 하행 역 중 하나는 노선에 등록된 역이어야 합니다.");
+        }
 
-        sections.add(section);
+        if (tail.getDownStation().equals(upStation)) {
+            return append(section);
+        }
+        if (head.getUpStation().equals(downStation)) {
+            return prepend(section);
+        }
+        if (containsUpStation) {
+            return insertBefore(sectionsByUpStation.get(upStation), section);
+        }
+        return insertAfter(sectionsByDownStation.get(downStation), section);
     }
 
-    public void remove(final Station station) {
-        final Station endingStation = getEndingStation();
-        if (!endingStation.equals(station)) {
-            throw new IllegalArgumentException("하행 종점 역이 아니면 제거할 수 없습니다.");
+    /**
+     * 역을 노선에서 제거한다. 종점 역이면 끝 구간을 제거하고, 중간 역이면 앞뒤 구간을 하나로 합치고 거리를 더한다.
+     * 역 색인으로 앞뒤 구간을 찾으므로 순서를 다시 만들지 않고 구간 하나를 고치고 하나를 지운다.
+     * 지운 구간을 영속 목록에서 빼는 데는 목록을 한 번 훑는다.
+     */
+    public SectionChanges remove(final Station station) {
+        chain();
+
+        if (!contains(station)) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역은 제거할 수 없습니다.");
         }
 
         if (sections.size() <= 1) {
             throw new IllegalArgumentException("구간이 한 개 이하면 제거할 수 없습니다.");
         }
 
-        final Section section = sections.stream()
-                .filter(_section -> _section.getDownStation().equals(station))
-                .findAny().orElseThrow(IllegalStateException::new);
-        sections.remove(section);
+        if (getEndingStation().equals(station)) {
+            final Section section = tail;
+            tail = section.getPrevious();
+            return removed(section);
+        }
+        if (head.getUpStation().equals(station)) {
+            final Section section = head;
+            head = section.getNext();
+            return removed(section);
+        }
+        return merge(sectionsByDownStation.get(station), sectionsByUpStation.get(station));
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    public List<Section> getOrderedSections() {
+        chain();
+
+        final List<Section> ordered = new ArrayList<>(sections.size());
+        for (Section section = head; section != null; section = section.getNext()) {
+            ordered.add(section);
+        }
+        return ordered;
     }
 
     public List<Station> getStations() {
-        final Map<Station, Station> stationMap = getStationMap();
-        final Map<String, Set<Station>> stationSetMap = getStationSetMap(stationMap);
-        final Set<Station> upStations = stationSetMap.get(UP_STATION_SET);
+        chain();
+
+        if (Objects.isNull(head)) {
+            return Collections.emptyList();
+        }
 
-        final List<Station> stations = new ArrayList<>();
-        Station nextStation = getStartingStation();
-        while (upStations.contains(nextStation)) {
-            stations.add(nextStation);
-            nextStation = stationMap.get(nextStation);
+        final List<Station> stations = new ArrayList<>(sections.size() + 1);
+        stations.add(head.getUpStation());
+        for (Section section = head; section != null; section = section.getNext()) {
+            stations.add(section.getDownStation());
         }
-        stations.add(nextStation);
         return stations;
     }
 
-    private Map<Station, Station> getStationMap() {
-        return sections.stream().collect(Collectors.toMap(Section::getUpStation, Section::getDownStation));
+    private SectionChanges append(final Section section) {
+        sections.add(section);
+        index(section);
+        tail.link(section);
+        tail = section;
+        return SectionChanges.added(section);
     }
 
-    private Map<String, Set<Station>> getStationSetMap(final Map<Station, Station> stationMap) {
-        final Map<String, Set<Station>> stationSetMap = new HashMap<>();
-        stationSetMap.put(UP_STATION_SET, stationMap.keySet());
-        stationSetMap.put(DOWN_STATION_SET, new HashSet<>(stationMap.values()));
-        return stationSetMap;
+    private SectionChanges prepend(final Section section) {
+        sections.add(section);
+        index(section);
+        section.link(head);
+        head = section;
+        return SectionChanges.added(section);
     }
 
-    private Map<String, Set<Station>> getStationSetMap() {
-        return getStationSetMap(getStationMap());
+    /**
+     * A-C 구간에 A-B 구간을 등록하면 A-C 구간은 B-C 구간이 되고 그 앞에 A-B 구간을 잇는다.
+     */
+    private SectionChanges insertBefore(final Section divided, final Section section) {
+        validateDividable(divided, section);
+        final Section before = divided.copy();
+        final Section previous = divided.getPrevious();
+
+        unindex(divided);
+        divided.shrinkFromUp(section.getDownStation(), section.getDistance());
+        index(divided);
+        index(section);
+        sections.add(section);
+
+        if (previous != null) {
+            previous.link(section);
+        } else {
+            head = section;
+        }
+        section.link(divided);
+        return new SectionChanges(Collections.singletonList(before), Arrays.asList(section, divided));
     }
 
-    private Station getStartingStation() {
-        final Map<String, Set<Station>> stationSetMap = getStationSetMap();
-        return stationSetMap.get(UP_STATION_SET).stream()
-                .filter(Predicate.not(stationSetMap.get(DOWN_STATION_SET)::contains))
-                .findAny().orElseThrow(IllegalStateException::new);
+    /**
+     * A-C 구간에 B-C 구간을 등록하면 A-C 구간은 A-B 구간이 되고 그 뒤에 B-C 구간을 잇는다.
+     */
+    private SectionChanges insertAfter(final Section divided, final Section section) {
+        validateDividable(divided, section);
+        final Section before = divided.copy();
+        final Section next = divided.getNext();
+
+        unindex(divided);
+        divided.shrinkFromDown(section.getUpStation(), section.getDistance());
+        index(divided);
+        index(section);
+        sections.add(section);
+
+        section.link(next);
+        divided.link(section);
+        if (next == null) {
+            tail = section;
+        }
+        return new SectionChanges(Collections.singletonList(before), Arrays.asList(divided, section));
+    }
+
+    private SectionChanges removed(final Section section) {
+        section.unlink();
+        unindex(section);
+        removeSection(section);
+        return new SectionChanges(Collections.singletonList(section), Collections.emptyList());
+    }
+
+    /**
+     * A-B, B-C 구간을 합치면 A-B 구간이 A-C 구간이 되고 B-C 구간은 제거된다.
+     */
+    private SectionChanges merge(final Section up, final Section down) {
+        final Section before = up.copy();
+        final Section next = down.getNext();
+
+        down.unlink();
+        unindex(down);
+        removeSection(down);
+
+        unindex(up);
+        up.extendToDown(down);
+        index(up);
+
+        up.link(next);
+        if (next == null) {
+            tail = up;
+        }
+        return new SectionChanges(Arrays.asList(before, down), Collections.singletonList(up));
+    }
+
+    private void removeSection(final Section section) {
+        final Iterator<Section> iterator = sections.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == section) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private void validateDividable(final Section divided, final Section section) {
+        if (section.getDistance() >= divided.getDistance()) {
+            throw new IllegalArgumentException("역 사이에 등록할 구간의 길이는 기존 구간의 길이보다 짧아야 합니다.");
+        }
     }
 
     private Station getEndingStation() {
-        final Map<String, Set<Station>> stationSetMap = getStationSetMap();
-        return stationSetMap.get(DOWN_STATION_SET).stream()
-                .filter(Predicate.not(stationSetMap.get(UP_STATION_SET)::contains))
-                .findAny().orElseThrow(IllegalStateException::new);
+        if (Objects.isNull(tail)) {
+            throw new IllegalStateException();
+        }
+        return tail.getDownStation();
+    }
+
+    private boolean contains(final Station station) {
+        return sectionsByUpStation.containsKey(station) || sectionsByDownStation.containsKey(station);
+    }
+
+    private void index(final Section section) {
+        sectionsByUpStation.put(section.getUpStation(), section);
+        sectionsByDownStation.put(section.getDownStation(), section);
+    }
+
+    private void unindex(final Section section) {
+        sectionsByUpStation.remove(section.getUpStation());
+        sectionsByDownStation.remove(section.getDownStation());
+    }
+
+    private void chain() {
+        if (Objects.nonNull(sectionsByUpStation)) {
+            return;
+        }
+
+        sectionsByUpStation = new HashMap<>();
+        sectionsByDownStation = new HashMap<>();
+        sections.forEach(this::index);
+
+        for (final Section section : sections) {
+            section.link(sectionsByUpStation.get(section.getDownStation()));
+            if (!sectionsByDownStation.containsKey(section.getUpStation())) {
+                head = section;
+            }
+            if (!sectionsByUpStation.containsKey(section.getDownStation())) {
+                tail = section;
+            }
+        }
     }
 }
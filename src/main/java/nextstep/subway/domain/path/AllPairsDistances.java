@@ -0,0 +1,154 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 전체 역 쌍의 거리 행렬을 들고 있다가 구간이 바뀌면 고쳐 쓴다.
+ * 구간이 늘어나는 변경은 행렬에 바로 반영하고, 구간이 빠지는 변경은 빠진 구간의 두 역이
+ * 남은 노선망 에서도 그 거리 이하로 이어지면 거리가 바뀌지 않으므로 그대로 둔다.
+ * 중간 역 제거 처럼 노선망 에서 떨어져 나간 역은 그 역의 행만 지운다.
+ * 그렇지 않으면 행렬을 버리고 다음 조회 때 다시 만든다.
+ * 역 수가 {@code subway.all-pairs-distances.max-stations} 를 넘으면 행렬을 만들지 않고 조회 마다 최단 거리를 구한다.
+ * 행렬은 잠금 밖에서 만들고, 만드는 동안 변경이 없었을 때만 잠금 안에서 버전을 비교해 올려 둔다.
+ */
+@Component
+public class AllPairsDistances {
+
+    private final PathFinder pathFinder;
+    private final int maxStations;
+    private volatile DistanceMatrix matrix;
+    private volatile long version;
+
+    public AllPairsDistances(final PathFinder pathFinder,
+                             @Value("${subway.all-pairs-distances.max-stations:5000}") final int maxStations) {
+        if (maxStations > DistanceMatrix.MAX_STATIONS) {
+            throw new IllegalArgumentException("거리 행렬의 역 수는 " + DistanceMatrix.MAX_STATIONS + " 개를 넘을 수 없습니다.");
+        }
+        this.pathFinder = pathFinder;
+        this.maxStations = maxStations;
+    }
+
+    public OptionalInt find(final Long sourceId, final Long targetId) {
+        final Optional<DistanceMatrix> current = get();
+        if (current.isPresent()) {
+            return current.get().find(sourceId, targetId);
+        }
+
+        if (!pathFinder.contains(sourceId) || !pathFinder.contains(targetId)) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+        return pathFinder.findDistance(sourceId, targetId);
+    }
+
+    /**
+     * 역 수가 상한을 넘으면 비어 있다.
+     * 만드는 동안 구간이 바뀌었으면 만든 행렬은 이번 조회 에만 쓰고 올려 두지 않는다.
+     */
+    public Optional<DistanceMatrix> get() {
+        final DistanceMatrix current = matrix;
+        if (current != null) {
+            return Optional.of(current);
+        }
+        if (pathFinder.size() > maxStations) {
+            return Optional.empty();
+        }
+
+        final long builtVersion = version;
+        final DistanceMatrix built = pathFinder.findAllDistances();
+        synchronized (this) {
+            if (matrix == null && version == builtVersion) {
+                matrix = built;
+            }
+        }
+        return Optional.of(built);
+    }
+
+    public synchronized void addSections(final Collection<Section> sections) {
+        update(Collections.emptyList(), sections);
+    }
+
+    public synchronized void removeSections(final Collection<Section> sections) {
+        update(sections, Collections.emptyList());
+    }
+
+    public synchronized void apply(final SectionChanges changes) {
+        update(changes.getRemoved(), changes.getAdded());
+    }
+
+    public synchronized void invalidate() {
+        version++;
+        matrix = null;
+    }
+
+    /**
+     * {@link PathFinder} 에 변경이 먼저 반영 되어 있어야 한다.
+     */
+    private void update(final Collection<Section> removed, final Collection<Section> added) {
+        version++;
+        if (matrix == null) {
+            return;
+        }
+        if (pathFinder.size() > maxStations) {
+            matrix = null;
+            return;
+        }
+
+        final Map<Long, List<Section>> isolatedStations = new HashMap<>();
+        for (final Section section : removed) {
+            for (final Long stationId : List.of(section.getUpStation().getId(), section.getDownStation().getId())) {
+                if (pathFinder.degreeOf(stationId) == 0) {
+                    isolatedStations.computeIfAbsent(stationId, _stationId -> new ArrayList<>()).add(section);
+                }
+            }
+        }
+
+        final boolean unchanged = removed.stream()
+                .allMatch(section -> isIsolated(section, isolatedStations.keySet()) || isBypassed(section))
+                && isolatedStations.entrySet().stream()
+                .allMatch(isolated -> isDetachable(isolated.getKey(), isolated.getValue()));
+        if (!unchanged) {
+            matrix = null;
+            return;
+        }
+        matrix = matrix.withoutStations(isolatedStations.keySet()).withSections(added);
+    }
+
+    private boolean isIsolated(final Section section, final Set<Long> isolatedStationIds) {
+        return isolatedStationIds.contains(section.getUpStation().getId())
+                || isolatedStationIds.contains(section.getDownStation().getId());
+    }
+
+    private boolean isBypassed(final Section section) {
+        final OptionalInt distance = pathFinder.findDistance(section.getUpStation().getId(), section.getDownStation().getId());
+        return distance.isPresent() && distance.getAsInt() <= section.getDistance();
+    }
+
+    /**
+     * 떨어져 나간 역을 지나던 최단 경로가 남은 노선망 에서도 같은 거리 이하로 이어지는지 본다.
+     * 끝 역 이었다면 지나는 경로가 없고, 중간 역 이었다면 양 옆 역이 두 구간 거리의 합 이하로 이어져야 한다.
+     */
+    private boolean isDetachable(final Long stationId, final List<Section> sections) {
+        if (sections.size() == 1) {
+            return true;
+        }
+        if (sections.size() != 2) {
+            return false;
+        }
+
+        final Long first = opposite(sections.get(0), stationId);
+        final Long second = opposite(sections.get(1), stationId);
+        final OptionalInt distance = pathFinder.findDistance(first, second);
+        return distance.isPresent() && distance.getAsInt() <= sections.get(0).getDistance() + sections.get(1).getDistance();
+    }
+
+    private Long opposite(final Section section, final Long stationId) {
+        return section.getUpStation().getId().equals(stationId)
+                ? section.getDownStation().getId()
+                : section.getUpStation().getId();
+    }
+}
@@ -0,0 +1,173 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.entity.Section;
+
+import java.util.*;
+
+/**
+ * 전체 역 쌍의 최단 거리. 거리는 대칭 이므로 아래 삼각 행렬만 {@code int[]} 하나에 행 순서로 담는다.
+ * {@code (i, j)} 의 위치는 {@code i * (i + 1) / 2 + j} (i >= j) 라 역이 늘어도 기존 값의 위치가 바뀌지 않는다.
+ * 만든 뒤에는 바꾸지 않으므로 잠금 없이 읽을 수 있다.
+ * 배열 하나에 담으므로 역은 {@link #MAX_STATIONS} 개 까지만 담을 수 있다.
+ */
+public class DistanceMatrix {
+
+    public static final int MAX_STATIONS = 65_535;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final Map<Long, Integer> indexes;
+    private final long[] stationIds;
+    private final int[] distances;
+    private final int size;
+
+    private DistanceMatrix(final Map<Long, Integer> indexes, final long[] stationIds, final int[] distances, final int size) {
+        this.indexes = indexes;
+        this.stationIds = stationIds;
+        this.distances = distances;
+        this.size = size;
+    }
+
+    static Builder builder(final long[] stationIds) {
+        return new Builder(stationIds);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 두 역 사이의 최단 거리. 연결되어 있지 않으면 비어 있다.
+     */
+    public OptionalInt find(final Long sourceId, final Long targetId) {
+        final Integer source = indexes.get(sourceId);
+        final Integer target = indexes.get(targetId);
+        if (Objects.isNull(source) || Objects.isNull(target)) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+        }
+
+        final int distance = distances[offset(source, target)];
+        return distance == UNREACHABLE ? OptionalInt.empty() : OptionalInt.of(distance);
+    }
+
+    /**
+     * 구간을 더한 행렬을 새로 만든다. 구간 (u, v, w) 를 지나는 모든 쌍의
+     * {@code d(i, u) + w + d(v, j)} 를 기존 거리와 비교하므로 구간 하나에 O(N^2) 이다.
+     */
+    DistanceMatrix withSections(final Collection<Section> sections) {
+        if (sections.isEmpty()) {
+            return this;
+        }
+
+        final Map<Long, Integer> nextIndexes = new HashMap<>(indexes);
+        long[] nextStationIds = stationIds;
+        int nextSize = size;
+        for (final Section section : sections) {
+            for (final Long stationId : List.of(section.getUpStation().getId(), section.getDownStation().getId())) {
+                if (!nextIndexes.containsKey(stationId)) {
+                    if (nextSize == nextStationIds.length) {
+                        nextStationIds = Arrays.copyOf(nextStationIds, Math.max(nextSize * 2, 16));
+                    }
+                    nextStationIds[nextSize] = stationId;
+                    nextIndexes.put(stationId, nextSize++);
+                }
+            }
+        }
+
+        final int[] nextDistances = Arrays.copyOf(distances, triangle(nextSize));
+        for (int i = size; i < nextSize; i++) {
+            Arrays.fill(nextDistances, triangle(i), triangle(i + 1) - 1, UNREACHABLE);
+            nextDistances[offset(i, i)] = 0;
+        }
+
+        final DistanceMatrix next = new DistanceMatrix(nextIndexes, nextStationIds, nextDistances, nextSize);
+        for (final Section section : sections) {
+            next.relax(nextIndexes.get(section.getUpStation().getId()),
+                    nextIndexes.get(section.getDownStation().getId()),
+                    section.getDistance());
+        }
+        return next;
+    }
+
+    /**
+     * 역들을 다른 역과 연결되지 않은 역으로 바꾼 행렬을 새로 만든다.
+     * 노선망 에서 떨어져 나간 역의 행만 바뀌고 나머지 쌍의 거리는 호출하는 쪽이 바뀌지 않음을 보장 해야 한다.
+     */
+    DistanceMatrix withoutStations(final Collection<Long> isolatedStationIds) {
+        if (isolatedStationIds.isEmpty()) {
+            return this;
+        }
+
+        final int[] nextDistances = distances.clone();
+        for (final Long stationId : isolatedStationIds) {
+            final Integer isolated = indexes.get(stationId);
+            if (Objects.isNull(isolated)) {
+                continue;
+            }
+            for (int i = 0; i < size; i++) {
+                nextDistances[offset(i, isolated)] = i == isolated ? 0 : UNREACHABLE;
+            }
+        }
+        return new DistanceMatrix(indexes, stationIds, nextDistances, size);
+    }
+
+    private void relax(final int up, final int down, final int distance) {
+        final int[] fromUp = new int[size];
+        final int[] fromDown = new int[size];
+        for (int i = 0; i < size; i++) {
+            fromUp[i] = distances[offset(i, up)];
+            fromDown[i] = distances[offset(i, down)];
+        }
+
+        for (int i = 0; i < size; i++) {
+            final int offset = triangle(i);
+            for (int j = 0; j <= i; j++) {
+                final int current = distances[offset + j];
+                final int viaUpDown = sum(fromUp[i], distance, fromDown[j]);
+                final int viaDownUp = sum(fromDown[i], distance, fromUp[j]);
+                distances[offset + j] = Math.min(current, Math.min(viaUpDown, viaDownUp));
+            }
+        }
+    }
+
+    private static int sum(final int first, final int distance, final int second) {
+        if (first == UNREACHABLE || second == UNREACHABLE) {
+            return UNREACHABLE;
+        }
+        return first + distance + second;
+    }
+
+    private static int offset(final int i, final int j) {
+        return i >= j ? triangle(i) + j : triangle(j) + i;
+    }
+
+    private static int triangle(final int rows) {
+        if (rows > MAX_STATIONS) {
+            throw new IllegalStateException("거리 행렬에 담을 수 있는 역 수를 넘었습니다: " + rows);
+        }
+        return (int) ((long) rows * (rows + 1) / 2);
+    }
+
+    static class Builder {
+
+        private final long[] stationIds;
+        private final int[] distances;
+
+        private Builder(final long[] stationIds) {
+            this.stationIds = stationIds;
+            this.distances = new int[triangle(stationIds.length)];
+        }
+
+        Builder row(final int source, final int[] sourceDistances) {
+            System.arraycopy(sourceDistances, 0, distances, triangle(source), source + 1);
+            return this;
+        }
+
+        DistanceMatrix build() {
+            final Map<Long, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < stationIds.length; i++) {
+                indexes.put(stationIds[i], i);
+            }
+            return new DistanceMatrix(indexes, stationIds, distances, stationIds.length);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.subway.domain.path;
+
+import java.util.Arrays;
+
+final class LongMinHeap {
+
+    private long[] values;
+    private int size;
+
+    LongMinHeap(final int capacity) {
+        this.values = new long[Math.max(capacity, 1)];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void push(final long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int child = size++;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (values[parent] <= value) {
+                break;
+            }
+            values[child] = values[parent];
+            child = parent;
+        }
+        values[child] = value;
+    }
+
+    long poll() {
+        final long top = values[0];
+        final long value = values[--size];
+        int parent = 0;
+        while (true) {
+            int child = parent * 2 + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && values[child + 1] < values[child]) {
+                child++;
+            }
+            if (value <= values[child]) {
+                break;
+            }
+            values[parent] = values[child];
+            parent = child;
+        }
+        values[parent] = value;
+        return top;
+    }
+}
@@ -0,0 +1,23 @@
+package nextstep.subway.domain.path;
+
+import java.util.Collections;
+import java.util.List;
+
+public class Path {
+
+    private final List<Long> stationIds;
+    private final int distance;
+
+    public Path(final List<Long> stationIds, final int distance) {
+        this.stationIds = Collections.unmodifiableList(stationIds);
+        this.distance = distance;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,289 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import nextstep.subway.domain.repository.SectionStations;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class PathFinder {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> indexes = new HashMap<>();
+    private long[] stationIds;
+    private int[][] adjacentIndexes;
+    private int[][] adjacentDistances;
+    private int[] degrees;
+    private int size;
+
+    public PathFinder() {
+        clear();
+    }
+
+    public void load(final Collection<? extends SectionStations> sections) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            sections.forEach(section -> connect(section.getUpStationId(), section.getDownStationId(), section.getDistance()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addSection(final Section section) {
+        lock.writeLock().lock();
+        try {
+            connect(section);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSection(final Section section) {
+        lock.writeLock().lock();
+        try {
+            disconnect(section);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void apply(final SectionChanges changes) {
+        lock.writeLock().lock();
+        try {
+            changes.getRemoved().forEach(this::disconnect);
+            changes.getAdded().forEach(this::connect);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Path find(final Long sourceId, final Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        lock.readLock().lock();
+        try {
+            final Integer source = indexes.get(sourceId);
+            final Integer target = indexes.get(targetId);
+            if (Objects.isNull(source) || Objects.isNull(target)) {
+                throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+            }
+            return find(source, target);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 역 사이의 최단 거리. 연결되어 있지 않으면 비어 있다.
+     */
+    public OptionalInt findDistance(final Long sourceId, final Long targetId) {
+        lock.readLock().lock();
+        try {
+            final Integer source = indexes.get(sourceId);
+            final Integer target = indexes.get(targetId);
+            if (Objects.isNull(source) || Objects.isNull(target)) {
+                return OptionalInt.empty();
+            }
+            final int distance = distances(source, target, null)[target];
+            return distance == UNREACHABLE ? OptionalInt.empty() : OptionalInt.of(distance);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 구간이 한 번이라도 등록된 적 있는 역인지 본다. 구간이 모두 빠진 역도 포함 한다.
+     */
+    public boolean contains(final Long stationId) {
+        lock.readLock().lock();
+        try {
+            return indexes.containsKey(stationId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 역에 이어진 구간 수. 노선망에 없는 역은 0 이다.
+     */
+    public int degreeOf(final Long stationId) {
+        lock.readLock().lock();
+        try {
+            final Integer index = indexes.get(stationId);
+            return Objects.isNull(index) ? 0 : degrees[index];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 역에서 한 번씩 최단 거리를 구해 전체 역 쌍의 거리 행렬을 만든다.
+     */
+    public DistanceMatrix findAllDistances() {
+        lock.readLock().lock();
+        try {
+            final DistanceMatrix.Builder builder = DistanceMatrix.builder(Arrays.copyOf(stationIds, size));
+            for (int source = 0; source < size; source++) {
+                builder.row(source, distances(source, NONE, null));
+            }
+            return builder.build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Path find(final int source, final int target) {
+        final int[] previous = new int[size];
+        final int[] distances = distances(source, target, previous);
+
+        if (distances[target] == UNREACHABLE) {
+            throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+        }
+
+        final LinkedList<Long> path = new LinkedList<>();
+        for (int node = target; node != NONE; node = previous[node]) {
+            path.addFirst(stationIds[node]);
+        }
+        return new Path(path, distances[target]);
+    }
+
+    /**
+     * {@code target} 까지의 최단 거리가 정해지면 멈추고, {@code target} 이 {@link #NONE} 이면 모든 역까지 구한다.
+     */
+    private int[] distances(final int source, final int target, final int[] previous) {
+        final int[] distances = new int[size];
+        Arrays.fill(distances, UNREACHABLE);
+        if (previous != null) {
+            Arrays.fill(previous, NONE);
+        }
+        distances[source] = 0;
+
+        final LongMinHeap heap = new LongMinHeap(size);
+        heap.push(entry(0, source));
+        while (!heap.isEmpty()) {
+            final long entry = heap.poll();
+            final int node = (int) entry;
+            final int distance = (int) (entry >>> Integer.SIZE);
+            if (distance > distances[node]) {
+                continue;
+            }
+            if (node == target) {
+                break;
+            }
+            final int[] adjacent = adjacentIndexes[node];
+            final int[] adjacentDistance = adjacentDistances[node];
+            for (int i = 0; i < degrees[node]; i++) {
+                final int next = adjacent[i];
+                final int nextDistance = distance + adjacentDistance[i];
+                if (nextDistance < distances[next]) {
+                    distances[next] = nextDistance;
+                    if (previous != null) {
+                        previous[next] = node;
+                    }
+                    heap.push(entry(nextDistance, next));
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static long entry(final int distance, final int node) {
+        return ((long) distance << Integer.SIZE) | node;
+    }
+
+    private void clear() {
+        indexes.clear();
+        stationIds = new long[INITIAL_CAPACITY];
+        adjacentIndexes = new int[INITIAL_CAPACITY][];
+        adjacentDistances = new int[INITIAL_CAPACITY][];
+        degrees = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private void connect(final Section section) {
+        connect(section.getUpStation().getId(), section.getDownStation().getId(), section.getDistance());
+    }
+
+    private void connect(final Long upStationId, final Long downStationId, final int distance) {
+        final int up = indexOf(upStationId);
+        final int down = indexOf(downStationId);
+        link(up, down, distance);
+        link(down, up, distance);
+    }
+
+    private void disconnect(final Section section) {
+        final Integer up = indexes.get(section.getUpStation().getId());
+        final Integer down = indexes.get(section.getDownStation().getId());
+        if (Objects.isNull(up) || Objects.isNull(down)) {
+            return;
+        }
+        unlink(up, down, section.getDistance());
+        unlink(down, up, section.getDistance());
+    }
+
+    private int indexOf(final Long stationId) {
+        final Integer index = indexes.get(stationId);
+        if (Objects.nonNull(index)) {
+            return index;
+        }
+
+        if (size == stationIds.length) {
+            final int capacity = size * 2;
+            stationIds = Arrays.copyOf(stationIds, capacity);
+            adjacentIndexes = Arrays.copyOf(adjacentIndexes, capacity);
+            adjacentDistances = Arrays.copyOf(adjacentDistances, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+        }
+        stationIds[size] = stationId;
+        adjacentIndexes[size] = new int[2];
+        adjacentDistances[size] = new int[2];
+        indexes.put(stationId, size);
+        return size++;
+    }
+
+    private void link(final int from, final int to, final int distance) {
+        final int degree = degrees[from];
+        if (degree == adjacentIndexes[from].length) {
+            adjacentIndexes[from] = Arrays.copyOf(adjacentIndexes[from], degree * 2);
+            adjacentDistances[from] = Arrays.copyOf(adjacentDistances[from], degree * 2);
+        }
+        adjacentIndexes[from][degree] = to;
+        adjacentDistances[from][degree] = distance;
+        degrees[from]++;
+    }
+
+    private void unlink(final int from, final int to, final int distance) {
+        final int[] adjacent = adjacentIndexes[from];
+        final int[] adjacentDistance = adjacentDistances[from];
+        final int last = degrees[from] - 1;
+        for (int i = 0; i <= last; i++) {
+            if (adjacent[i] == to && adjacentDistance[i] == distance) {
+                adjacent[i] = adjacent[last];
+                adjacentDistance[i] = adjacentDistance[last];
+                degrees[from]--;
+                return;
+            }
+        }
+    }
+}
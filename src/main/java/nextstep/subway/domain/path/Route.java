@@ -0,0 +1,35 @@
+package nextstep.subway.domain.path;
+
+import java.util.Collections;
+import java.util.List;
+
+public class Route {
+
+    private final List<Long> stationIds;
+    private final List<Long> lineIds;
+    private final int distance;
+    private final int transfers;
+
+    public Route(final List<Long> stationIds, final List<Long> lineIds, final int distance, final int transfers) {
+        this.stationIds = Collections.unmodifiableList(stationIds);
+        this.lineIds = Collections.unmodifiableList(lineIds);
+        this.distance = distance;
+        this.transfers = transfers;
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+
+    public List<Long> getLineIds() {
+        return lineIds;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+}
@@ -0,0 +1,395 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import nextstep.subway.domain.repository.SectionStations;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 거리와 환승 횟수를 함께 고려해 서로 우열을 가릴 수 없는(파레토 최적) 경로 목록을 찾는다.
+ * 정점은 (역, 노선) 쌍이고, 같은 노선의 구간은 거리 만큼, 같은 역의 다른 노선 정점은 환승 1 회로 잇는다.
+ * 정점 별로 환승 횟수 마다 가장 짧은 거리만 남기며 라벨을 넓혀 가는 다기준 다익스트라 탐색이다.
+ */
+@Component
+public class RoutePlanner {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> stationIndexes = new HashMap<>();
+    private final Set<Long> lineIds = new HashSet<>();
+    private long[] stationIds;
+    private int[][] stationNodes;
+    private int[] stationNodeCounts;
+    private int stationSize;
+
+    private int[] nodeStations;
+    private long[] nodeLineIds;
+    private int[][] adjacentNodes;
+    private int[][] adjacentDistances;
+    private int[] degrees;
+    private int nodeSize;
+
+    public RoutePlanner() {
+        clear();
+    }
+
+    public void load(final Collection<? extends SectionStations> sections) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            sections.forEach(section -> connect(
+                    section.getLineId(), section.getUpStationId(), section.getDownStationId(), section.getDistance()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addSection(final Section section) {
+        lock.writeLock().lock();
+        try {
+            connect(section);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeSection(final Section section) {
+        lock.writeLock().lock();
+        try {
+            disconnect(section);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void apply(final SectionChanges changes) {
+        lock.writeLock().lock();
+        try {
+            changes.getRemoved().forEach(this::disconnect);
+            changes.getAdded().forEach(this::connect);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 거리 오름차순, 환승 횟수 내림차순으로 정렬된 파레토 최적 경로 목록을 반환한다.
+     */
+    public List<Route> find(final Long sourceId, final Long targetId) {
+        if (sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+
+        lock.readLock().lock();
+        try {
+            final Integer source = stationIndexes.get(sourceId);
+            final Integer target = stationIndexes.get(targetId);
+            if (Objects.isNull(source) || Objects.isNull(target)) {
+                throw new IllegalArgumentException("노선에 등록되지 않은 역입니다.");
+            }
+            return new Search(source, target).run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void clear() {
+        stationIndexes.clear();
+        lineIds.clear();
+        stationIds = new long[INITIAL_CAPACITY];
+        stationNodes = new int[INITIAL_CAPACITY][];
+        stationNodeCounts = new int[INITIAL_CAPACITY];
+        stationSize = 0;
+
+        nodeStations = new int[INITIAL_CAPACITY];
+        nodeLineIds = new long[INITIAL_CAPACITY];
+        adjacentNodes = new int[INITIAL_CAPACITY][];
+        adjacentDistances = new int[INITIAL_CAPACITY][];
+        degrees = new int[INITIAL_CAPACITY];
+        nodeSize = 0;
+    }
+
+    private void connect(final Section section) {
+        connect(section.getLine().getId(), section.getUpStation().getId(), section.getDownStation().getId(), section.getDistance());
+    }
+
+    private void connect(final Long lineId, final Long upStationId, final Long downStationId, final int distance) {
+        final int up = nodeOf(stationOf(upStationId), lineId);
+        final int down = nodeOf(stationOf(downStationId), lineId);
+        link(up, down, distance);
+        link(down, up, distance);
+    }
+
+    private void disconnect(final Section section) {
+        final Integer upStation = stationIndexes.get(section.getUpStation().getId());
+        final Integer downStation = stationIndexes.get(section.getDownStation().getId());
+        if (Objects.isNull(upStation) || Objects.isNull(downStation)) {
+            return;
+        }
+        final long lineId = section.getLine().getId();
+        final int up = findNode(upStation, lineId);
+        final int down = findNode(downStation, lineId);
+        if (up == NONE || down == NONE) {
+            return;
+        }
+        unlink(up, down, section.getDistance());
+        unlink(down, up, section.getDistance());
+    }
+
+    private int stationOf(final Long stationId) {
+        final Integer index = stationIndexes.get(stationId);
+        if (Objects.nonNull(index)) {
+            return index;
+        }
+
+        if (stationSize == stationIds.length) {
+            final int capacity = stationSize * 2;
+            stationIds = Arrays.copyOf(stationIds, capacity);
+            stationNodes = Arrays.copyOf(stationNodes, capacity);
+            stationNodeCounts = Arrays.copyOf(stationNodeCounts, capacity);
+        }
+        stationIds[stationSize] = stationId;
+        stationNodes[stationSize] = new int[2];
+        stationIndexes.put(stationId, stationSize);
+        return stationSize++;
+    }
+
+    /**
+     * 한 역을 지나는 노선은 몇 개 되지 않으므로 역의 정점 목록을 차례로 훑어 찾는다.
+     */
+    private int findNode(final int station, final long lineId) {
+        final int[] nodes = stationNodes[station];
+        for (int i = 0; i < stationNodeCounts[station]; i++) {
+            if (nodeLineIds[nodes[i]] == lineId) {
+                return nodes[i];
+            }
+        }
+        return NONE;
+    }
+
+    private int nodeOf(final int station, final Long lineId) {
+        final int node = findNode(station, lineId);
+        if (node != NONE) {
+            return node;
+        }
+
+        if (nodeSize == nodeStations.length) {
+            final int capacity = nodeSize * 2;
+            nodeStations = Arrays.copyOf(nodeStations, capacity);
+            nodeLineIds = Arrays.copyOf(nodeLineIds, capacity);
+            adjacentNodes = Arrays.copyOf(adjacentNodes, capacity);
+            adjacentDistances = Arrays.copyOf(adjacentDistances, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+        }
+        nodeStations[nodeSize] = station;
+        nodeLineIds[nodeSize] = lineId;
+        adjacentNodes[nodeSize] = new int[2];
+        adjacentDistances[nodeSize] = new int[2];
+        lineIds.add(lineId);
+
+        final int count = stationNodeCounts[station];
+        if (count == stationNodes[station].length) {
+            stationNodes[station] = Arrays.copyOf(stationNodes[station], count * 2);
+        }
+        stationNodes[station][count] = nodeSize;
+        stationNodeCounts[station]++;
+        return nodeSize++;
+    }
+
+    private void link(final int from, final int to, final int distance) {
+        final int degree = degrees[from];
+        if (degree == adjacentNodes[from].length) {
+            adjacentNodes[from] = Arrays.copyOf(adjacentNodes[from], degree * 2);
+            adjacentDistances[from] = Arrays.copyOf(adjacentDistances[from], degree * 2);
+        }
+        adjacentNodes[from][degree] = to;
+        adjacentDistances[from][degree] = distance;
+        degrees[from]++;
+    }
+
+    private void unlink(final int from, final int to, final int distance) {
+        final int[] adjacent = adjacentNodes[from];
+        final int[] adjacentDistance = adjacentDistances[from];
+        final int last = degrees[from] - 1;
+        for (int i = 0; i <= last; i++) {
+            if (adjacent[i] == to && adjacentDistance[i] == distance) {
+                adjacent[i] = adjacent[last];
+                adjacentDistance[i] = adjacentDistance[last];
+                degrees[from]--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 탐색 한 번의 상태. 라벨은 (정점, 거리, 환승 횟수, 이전 라벨) 이고 배열에 차례로 쌓는다.
+     * 힙에는 거리와 라벨 번호를 묶은 long 을 넣는다.
+     */
+    private class Search {
+
+        private final int source;
+        private final int target;
+        private final int width;
+        private final int[] best;
+        private final int[] targetBest;
+        private final LongMinHeap heap;
+        private final List<Integer> targetLabels = new ArrayList<>();
+
+        private int[] labelNodes;
+        private int[] labelDistances;
+        private int[] labelTransfers;
+        private int[] labelParents;
+        private int labelSize;
+
+        private Search(final int source, final int target) {
+            this.source = source;
+            this.target = target;
+            this.width = Math.max(lineIds.size(), 1);
+            this.best = new int[nodeSize * width];
+            this.targetBest = new int[width];
+            this.heap = new LongMinHeap(nodeSize);
+            Arrays.fill(best, UNREACHABLE);
+            Arrays.fill(targetBest, UNREACHABLE);
+
+            final int capacity = Math.max(nodeSize, INITIAL_CAPACITY);
+            labelNodes = new int[capacity];
+            labelDistances = new int[capacity];
+            labelTransfers = new int[capacity];
+            labelParents = new int[capacity];
+        }
+
+        private List<Route> run() {
+            for (int i = 0; i < stationNodeCounts[source]; i++) {
+                relax(stationNodes[source][i], 0, 0, NONE);
+            }
+
+            while (!heap.isEmpty()) {
+                final int label = (int) heap.poll();
+                final int node = labelNodes[label];
+                final int distance = labelDistances[label];
+                final int transfers = labelTransfers[label];
+                if (best[node * width + transfers] < distance
+                        || dominated(node, transfers - 1, distance)
+                        || dominatedAtTarget(transfers, distance)) {
+                    continue;
+                }
+
+                if (nodeStations[node] == target) {
+                    targetLabels.add(label);
+                    targetBest[transfers] = Math.min(targetBest[transfers], distance);
+                    continue;
+                }
+
+                final int[] adjacent = adjacentNodes[node];
+                final int[] adjacentDistance = adjacentDistances[node];
+                for (int i = 0; i < degrees[node]; i++) {
+                    relax(adjacent[i], distance + adjacentDistance[i], transfers, label);
+                }
+
+                if (transfers + 1 < width) {
+                    final int station = nodeStations[node];
+                    for (int i = 0; i < stationNodeCounts[station]; i++) {
+                        final int next = stationNodes[station][i];
+                        if (next != node) {
+                            relax(next, distance, transfers + 1, label);
+                        }
+                    }
+                }
+            }
+
+            if (targetLabels.isEmpty()) {
+                throw new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다.");
+            }
+            return paretoRoutes();
+        }
+
+        private void relax(final int node, final int distance, final int transfers, final int parent) {
+            if (dominated(node, transfers, distance) || dominatedAtTarget(transfers, distance)) {
+                return;
+            }
+            best[node * width + transfers] = distance;
+            heap.push(((long) distance << Integer.SIZE) | addLabel(node, distance, transfers, parent));
+        }
+
+        /**
+         * 환승 횟수가 {@code transfers} 이하이면서 거리가 {@code distance} 이하인 라벨이 이미 있는지 확인한다.
+         */
+        private boolean dominated(final int node, final int transfers, final int distance) {
+            final int offset = node * width;
+            for (int i = 0; i <= transfers; i++) {
+                if (best[offset + i] <= distance) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 도착역에 이미 더 나은 경로가 있으면 더 넓혀도 우열을 뒤집을 수 없으므로 버린다.
+         */
+        private boolean dominatedAtTarget(final int transfers, final int distance) {
+            for (int i = 0; i <= transfers; i++) {
+                if (targetBest[i] <= distance && (i < transfers || targetBest[i] < distance)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int addLabel(final int node, final int distance, final int transfers, final int parent) {
+            if (labelSize == labelNodes.length) {
+                final int capacity = labelSize * 2;
+                labelNodes = Arrays.copyOf(labelNodes, capacity);
+                labelDistances = Arrays.copyOf(labelDistances, capacity);
+                labelTransfers = Arrays.copyOf(labelTransfers, capacity);
+                labelParents = Arrays.copyOf(labelParents, capacity);
+            }
+            labelNodes[labelSize] = node;
+            labelDistances[labelSize] = distance;
+            labelTransfers[labelSize] = transfers;
+            labelParents[labelSize] = parent;
+            return labelSize++;
+        }
+
+        private List<Route> paretoRoutes() {
+            targetLabels.sort(Comparator.<Integer>comparingInt(label -> labelDistances[label])
+                    .thenComparingInt(label -> labelTransfers[label]));
+
+            final List<Route> routes = new ArrayList<>();
+            int fewestTransfers = Integer.MAX_VALUE;
+            for (final int label : targetLabels) {
+                if (labelTransfers[label] < fewestTransfers) {
+                    fewestTransfers = labelTransfers[label];
+                    routes.add(route(label));
+                }
+            }
+            return routes;
+        }
+
+        private Route route(final int targetLabel) {
+            final LinkedList<Long> stations = new LinkedList<>();
+            final LinkedList<Long> lines = new LinkedList<>();
+            for (int label = targetLabel; label != NONE; label = labelParents[label]) {
+                final int node = labelNodes[label];
+                final int parent = labelParents[label];
+                final long stationId = stationIds[nodeStations[node]];
+                if (stations.isEmpty() || stations.getFirst() != stationId) {
+                    stations.addFirst(stationId);
+                }
+                final boolean ride = parent != NONE && nodeStations[labelNodes[parent]] != nodeStations[node];
+                if (ride && (lines.isEmpty() || lines.getFirst() != nodeLineIds[node])) {
+                    lines.addFirst(nodeLineIds[node]);
+                }
+            }
+            return new Route(stations, lines, labelDistances[targetLabel], labelTransfers[targetLabel]);
+        }
+    }
+}
@@ -1,11 +1,61 @@
 package nextstep.subway.domain.repository;
 
 import nextstep.subway.domain.entity.Line;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 public interface LineRepository extends JpaRepository<Line, Long> {
 
-    List<Line> findByName(final String name);
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "order by l.id")
+    List<Line> findAllWithStations();
+
+    /**
+     * 구간의 역은 가져오지 않는다. 역을 먼저 조회해 두면 같은 영속성 컨텍스트의 역을 가리킨다.
+     */
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections " +
+            "order by l.id")
+    List<Line> findAllWithSections();
+
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id in :ids " +
+            "order by l.id")
+    List<Line> findAllWithStationsByIdIn(@Param("ids") final List<Long> ids);
+
+    @Query("select l.id from Line l where l.id > :id")
+    List<Long> findIdsByIdGreaterThan(@Param("id") final Long id, final Pageable pageable);
+
+    @Query("select l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id = :id")
+    Optional<Line> findWithStationsById(@Param("id") final Long id);
+
+    @Query("select count(l) as count, max(l.id) as maxId, max(l.modifiedDate) as modifiedDate from Line l")
+    TableVersion findTableVersion();
+
+    /**
+     * 구간 변경은 노선의 수정 시각을 바꾸지 않고 버전만 올린다.
+     */
+    @Query("select coalesce(sum(l.version), 0) from Line l")
+    long sumVersions();
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select l from Line l where l.id = :id")
+    Optional<Line> findForUpdateById(@Param("id") final Long id);
 }
@@ -0,0 +1,8 @@
+package nextstep.subway.domain.repository;
+
+public interface LineSectionCount {
+
+    Long getLineId();
+
+    Long getSectionCount();
+}
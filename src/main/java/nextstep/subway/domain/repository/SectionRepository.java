@@ -0,0 +1,17 @@
+package nextstep.subway.domain.repository;
+
+import nextstep.subway.domain.entity.Section;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SectionRepository extends JpaRepository<Section, Long> {
+
+    @Query("select s.line.id as lineId, count(s) as sectionCount from Section s group by s.line.id")
+    List<LineSectionCount> countByLine();
+
+    @Query("select s.line.id as lineId, s.upStation.id as upStationId, s.downStation.id as downStationId, s.distance as distance " +
+            "from Section s")
+    List<SectionStations> findAllStations();
+}
@@ -0,0 +1,12 @@
+package nextstep.subway.domain.repository;
+
+public interface SectionStations {
+
+    Long getLineId();
+
+    Long getUpStationId();
+
+    Long getDownStationId();
+
+    int getDistance();
+}
@@ -1,7 +1,9 @@
 package nextstep.subway.domain.repository;
 
 import nextstep.subway.domain.entity.Station;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -10,5 +12,8 @@ public interface StationRepository extends JpaRepository<Station, Long> {
     @Override
     List<Station> findAll();
 
-    List<Station> findByName(final String name);
+    List<Station> findByIdGreaterThan(final Long id, final Pageable pageable);
+
+    @Query("select count(s) as count, max(s.id) as maxId, max(s.modifiedDate) as modifiedDate from Station s")
+    TableVersion findTableVersion();
 }
@@ -0,0 +1,12 @@
+package nextstep.subway.domain.repository;
+
+import java.time.LocalDateTime;
+
+public interface TableVersion {
+
+    long getCount();
+
+    Long getMaxId();
+
+    LocalDateTime getModifiedDate();
+}
@@ -1,21 +1,17 @@
 package nextstep.subway.domain.service;
 
 import nextstep.subway.domain.entity.Line;
-import nextstep.subway.domain.repository.LineRepository;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 @Component
 public class LineValidator implements Validator<Line> {
 
-    private final LineRepository lineRepository;
+    private final NameIndex<Line> lineNameIndex;
 
-    public LineValidator(LineRepository lineRepository) {
-        this.lineRepository = lineRepository;
+    public LineValidator(NameIndex<Line> lineNameIndex) {
+        this.lineNameIndex = lineNameIndex;
     }
 
     public void validate(final Line line) {
@@ -32,10 +28,7 @@ public class LineValidator implements Validator<Line> {
             throw new IllegalArgumentException("노선의 이름은 1 자 이상 이어야 합니다.");
         }
 
-        final List<Line> lines = lineRepository.findByName(name).stream()
-                .filter(Predicate.not(line::equals))
-                .collect(Collectors.toList());
-        if (!lines.isEmpty()) {
+        if (lineNameIndex.isDuplicate(line)) {
             throw new DuplicateArgumentException("중복된 이름 입니다.");
         }
     }
@@ -0,0 +1,60 @@
+package nextstep.subway.domain.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public class NameIndex<T> {
+
+    private final ConcurrentMap<String, Long> ids = new ConcurrentHashMap<>();
+    private final Function<T, String> nameGetter;
+    private final Function<T, Long> idGetter;
+
+    public NameIndex(final Function<T, String> nameGetter, final Function<T, Long> idGetter) {
+        this.nameGetter = nameGetter;
+        this.idGetter = idGetter;
+    }
+
+    public void load(final Collection<T> values) {
+        ids.clear();
+        values.forEach(this::add);
+    }
+
+    public void load(final Map<String, Long> ids) {
+        this.ids.clear();
+        this.ids.putAll(ids);
+    }
+
+    public void clear() {
+        ids.clear();
+    }
+
+    public boolean contains(final String name) {
+        return Objects.nonNull(name) && ids.containsKey(name);
+    }
+
+    public boolean isDuplicate(final T value) {
+        final String name = nameGetter.apply(value);
+        if (Objects.isNull(name)) {
+            return false;
+        }
+
+        final Long id = ids.get(name);
+        return Objects.nonNull(id) && !id.equals(idGetter.apply(value));
+    }
+
+    public void add(final T value) {
+        ids.put(nameGetter.apply(value), idGetter.apply(value));
+    }
+
+    public void remove(final T value) {
+        remove(nameGetter.apply(value), value);
+    }
+
+    public void remove(final String name, final T value) {
+        ids.remove(name, idGetter.apply(value));
+    }
+}
@@ -0,0 +1,71 @@
+package nextstep.subway.domain.service;
+
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import nextstep.subway.domain.repository.SectionStations;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 역 id 로 그 역을 지나는 노선 id 를 찾는 색인.
+ * 역은 한 노선에서 구간 한 개 또는 두 개에 등록 되므로, 노선 별로 역이 등록된 구간 수를 세어 0 이 되면 노선을 지운다.
+ */
+@Component
+public class StationLineIndex {
+
+    private final ConcurrentMap<Long, Map<Long, Integer>> sectionCounts = new ConcurrentHashMap<>();
+
+    public void load(final Collection<? extends SectionStations> sections) {
+        sectionCounts.clear();
+        for (final SectionStations section : sections) {
+            count(section.getUpStationId(), section.getLineId(), 1);
+            count(section.getDownStationId(), section.getLineId(), 1);
+        }
+    }
+
+    public Set<Long> getLineIds(final Long stationId) {
+        return sectionCounts.getOrDefault(stationId, Collections.emptyMap()).keySet();
+    }
+
+    public boolean isServed(final Long stationId) {
+        return sectionCounts.containsKey(stationId);
+    }
+
+    public void addSection(final Section section) {
+        count(section, 1);
+    }
+
+    public void removeSection(final Section section) {
+        count(section, -1);
+    }
+
+    public void apply(final SectionChanges changes) {
+        changes.getRemoved().forEach(this::removeSection);
+        changes.getAdded().forEach(this::addSection);
+    }
+
+    private void count(final Section section, final int delta) {
+        final Long lineId = section.getLine().getId();
+        count(section.getUpStation().getId(), lineId, delta);
+        count(section.getDownStation().getId(), lineId, delta);
+    }
+
+    /**
+     * 노선 별 구간 수는 역 마다 몇 개 되지 않으므로 바꿀 때 마다 새 맵으로 교체해 읽기에 잠금이 필요 없게 한다.
+     */
+    private void count(final Long stationId, final Long lineId, final int delta) {
+        sectionCounts.compute(stationId, (_stationId, counts) -> {
+            final Map<Long, Integer> next = Objects.isNull(counts) ? new HashMap<>() : new HashMap<>(counts);
+            final int count = next.getOrDefault(lineId, 0) + delta;
+            if (count > 0) {
+                next.put(lineId, count);
+            } else {
+                next.remove(lineId);
+            }
+            return next.isEmpty() ? null : Collections.unmodifiableMap(next);
+        });
+    }
+}
@@ -1,20 +1,15 @@
 package nextstep.subway.domain.service;
 
 import nextstep.subway.domain.entity.Station;
-import nextstep.subway.domain.repository.StationRepository;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-
 @Component
 public class StationValidator implements Validator<Station> {
 
-    private final StationRepository stationRepository;
+    private final NameIndex<Station> stationNameIndex;
 
-    public StationValidator(StationRepository stationRepository) {
-        this.stationRepository = stationRepository;
+    public StationValidator(NameIndex<Station> stationNameIndex) {
+        this.stationNameIndex = stationNameIndex;
     }
 
     public void validate(final Station station) {
@@ -22,10 +17,7 @@ public class StationValidator implements Validator<Station> {
     }
 
     private void validateName(final Station station) {
-        final List<Station> stations = stationRepository.findByName(station.getName()).stream()
-                .filter(Predicate.not(station::equals))
-                .collect(Collectors.toList());
-        if (!stations.isEmpty()) {
+        if (stationNameIndex.isDuplicate(station)) {
             throw new DuplicateArgumentException("중복된 이름 입니다.");
         }
     }
@@ -0,0 +1,91 @@
+package nextstep.subway.ui;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 행 단위로 읽는다.
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표를 그대로 살리고, 따옴표 없는 필드는 앞뒤 공백을 지운다.
+ * 빈 줄도 빈 필드 하나인 행으로 돌려주므로 행 번호가 입력의 행 순서와 맞는다.
+ */
+class CsvReader {
+
+    private static final int EOF = -1;
+    private static final char QUOTE = '"';
+    private static final char COMMA = ',';
+
+    private final PushbackReader reader;
+
+    CsvReader(final Reader reader) {
+        this.reader = new PushbackReader(reader);
+    }
+
+    /**
+     * 다음 행의 필드를 돌려주고, 더 읽을 행이 없으면 {@code null} 을 돌려준다.
+     */
+    List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == EOF) {
+            return null;
+        }
+
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == EOF || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    skip('\n');
+                }
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                return fields;
+            }
+
+            if (c == COMMA) {
+                fields.add(quoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                quoted = false;
+            } else if (c == QUOTE && !quoted && field.toString().isBlank()) {
+                field.setLength(0);
+                readQuoted(field);
+                quoted = true;
+            } else if (quoted) {
+                if (!Character.isWhitespace(c)) {
+                    throw new IllegalArgumentException("닫는 따옴표 뒤에는 구분자가 와야 합니다.");
+                }
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void readQuoted(final StringBuilder field) throws IOException {
+        int c;
+        while ((c = reader.read()) != EOF) {
+            if (c != QUOTE) {
+                field.append((char) c);
+                continue;
+            }
+            if (!skip(QUOTE)) {
+                return;
+            }
+            field.append(QUOTE);
+        }
+        throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+    }
+
+    private boolean skip(final char expected) throws IOException {
+        final int c = reader.read();
+        if (c == expected) {
+            return true;
+        }
+        if (c != EOF) {
+            reader.unread(c);
+        }
+        return false;
+    }
+}
@@ -1,21 +1,33 @@
 package nextstep.subway.ui;
 
 import nextstep.subway.domain.service.DuplicateArgumentException;
+import org.springframework.boot.web.servlet.error.ErrorAttributes;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import javax.servlet.http.HttpServletRequest;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
-    protected ResponseEntity<Void> handleIllegalArgumentException(IllegalArgumentException e) {
+    protected ResponseEntity<Void> handleIllegalArgumentException(IllegalArgumentException e, HttpServletRequest request) {
+        request.setAttribute(ErrorAttributes.ERROR_ATTRIBUTE, e);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     }
 
     @ExceptionHandler(DuplicateArgumentException.class)
-    protected ResponseEntity<Void> handleDuplicateArgumentException(DuplicateArgumentException e) {
+    protected ResponseEntity<Void> handleDuplicateArgumentException(DuplicateArgumentException e, HttpServletRequest request) {
+        request.setAttribute(ErrorAttributes.ERROR_ATTRIBUTE, e);
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    protected ResponseEntity<Void> handleObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e, HttpServletRequest request) {
+        request.setAttribute(ErrorAttributes.ERROR_ATTRIBUTE, e);
         return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 }
@@ -0,0 +1,109 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.JsonSnapshot;
+import nextstep.subway.applicaion.JsonSnapshotService;
+import nextstep.subway.applicaion.LineBinaryCodec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Objects;
+
+@Component
+public class JsonSnapshotWriter {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY = "*";
+    private static final String QUALITY = "q";
+
+    private final JsonSnapshotService jsonSnapshotService;
+
+    public JsonSnapshotWriter(final JsonSnapshotService jsonSnapshotService) {
+        this.jsonSnapshotService = jsonSnapshotService;
+    }
+
+    public ResponseEntity<byte[]> write(final String name, final WebRequest request) {
+        final JsonSnapshot snapshot = jsonSnapshotService.get(name);
+        final boolean gzip = snapshot.hasGzip() && acceptsGzip(request);
+        final String eTag = gzip ? snapshot.getGzipETag() : snapshot.getETag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(snapshot.getGzip());
+        }
+        return builder.body(snapshot.getJson());
+    }
+
+    public ResponseEntity<byte[]> writeBinary(final String name, final WebRequest request) {
+        final JsonSnapshot snapshot = jsonSnapshotService.get(name);
+        if (!snapshot.hasBinary()) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        if (request.checkNotModified(snapshot.getBinaryETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getBinaryETag()).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getBinaryETag())
+                .contentType(MediaType.parseMediaType(LineBinaryCodec.MEDIA_TYPE_VALUE))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(snapshot.getBinary());
+    }
+
+    /**
+     * Accept-Encoding 의 코딩 마다 q 값을 읽어 gzip 이 0 보다 큰 q 로 허용 되는지 본다.
+     * gzip 이 없으면 {@code *} 의 q 값을 따르고, q 값을 읽을 수 없는 코딩은 허용 하지 않은 것으로 본다.
+     */
+    private boolean acceptsGzip(final WebRequest request) {
+        final String[] acceptEncodings = request.getHeaderValues(HttpHeaders.ACCEPT_ENCODING);
+        if (Objects.isNull(acceptEncodings)) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (final String acceptEncoding : acceptEncodings) {
+            for (final String coding : acceptEncoding.split(",")) {
+                final String[] parameters = coding.split(";");
+                final String name = parameters[0].trim();
+                if (GZIP.equalsIgnoreCase(name) || X_GZIP.equalsIgnoreCase(name)) {
+                    gzipQuality = quality(parameters);
+                } else if (ANY.equals(name)) {
+                    anyQuality = quality(parameters);
+                }
+            }
+        }
+
+        if (Objects.nonNull(gzipQuality)) {
+            return gzipQuality > 0;
+        }
+        return Objects.nonNull(anyQuality) && anyQuality > 0;
+    }
+
+    private double quality(final String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final String[] parameter = parameters[i].split("=", 2);
+            if (parameter.length == 2 && QUALITY.equalsIgnoreCase(parameter[0].trim())) {
+                try {
+                    return Double.parseDouble(parameter[1].trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,11 +1,18 @@
 package nextstep.subway.ui;
 
+import nextstep.subway.applicaion.DataVersion;
+import nextstep.subway.applicaion.LineBinaryCodec;
 import nextstep.subway.applicaion.LineService;
 import nextstep.subway.applicaion.dto.LineRequest;
 import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.LineRouteRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 
@@ -14,9 +21,15 @@ import java.util.List;
 public class LineController {
 
     private final LineService lineService;
+    private final JsonSnapshotWriter jsonSnapshotWriter;
+    private final NdjsonWriter ndjsonWriter;
 
-    public LineController(final LineService lineService) {
+    public LineController(final LineService lineService,
+                          final JsonSnapshotWriter jsonSnapshotWriter,
+                          final NdjsonWriter ndjsonWriter) {
         this.lineService = lineService;
+        this.jsonSnapshotWriter = jsonSnapshotWriter;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @PostMapping
@@ -26,13 +39,36 @@ public class LineController {
         return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<LineResponse> createLineRoute(@RequestBody final LineRouteRequest lineRouteRequest) {
+        final LineResponse line = lineService.saveLineRoute(lineRouteRequest);
+
+        return ResponseEntity.created(URI.create("/lines/" + line.getId())).body(line);
+    }
+
     @GetMapping
-    public ResponseEntity<List<LineResponse>> getLines() {
-        final List<LineResponse> lines = lineService.findAllLines();
+    public ResponseEntity<byte[]> getLines(final WebRequest request) {
+        return jsonSnapshotWriter.write(DataVersion.LINES, request);
+    }
+
+    @GetMapping(produces = LineBinaryCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<byte[]> getLinesBinary(final WebRequest request) {
+        return jsonSnapshotWriter.writeBinary(DataVersion.LINES, request);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<List<LineResponse>> getLines(@RequestParam(defaultValue = "0") final Long after,
+                                                       @RequestParam final int limit) {
+        final List<LineResponse> lines = lineService.findLines(after, limit);
 
         return ResponseEntity.ok().body(lines);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamLines(final HttpServletResponse response) throws IOException {
+        ndjsonWriter.write(response, lineService::streamLines);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<LineResponse> getLine(@PathVariable final Long id) {
         final LineResponse list = lineService.findLineById(id);
@@ -0,0 +1,24 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.NetworkResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class NetworkController {
+
+    private final LineService lineService;
+
+    public NetworkController(final LineService lineService) {
+        this.lineService = lineService;
+    }
+
+    @GetMapping("/network")
+    public ResponseEntity<NetworkResponse> getNetwork() {
+        final NetworkResponse network = lineService.findNetwork();
+
+        return ResponseEntity.ok().body(network);
+    }
+}
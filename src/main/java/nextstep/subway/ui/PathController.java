@@ -0,0 +1,46 @@
+package nextstep.subway.ui;
+
+import nextstep.subway.applicaion.PathService;
+import nextstep.subway.applicaion.dto.DistanceResponse;
+import nextstep.subway.applicaion.dto.PathResponse;
+import nextstep.subway.applicaion.dto.RouteResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class PathController {
+
+    private final PathService pathService;
+
+    public PathController(final PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> getPath(@RequestParam final Long source,
+                                                @RequestParam final Long target) {
+        final PathResponse path = pathService.findPath(source, target);
+
+        return ResponseEntity.ok().body(path);
+    }
+
+    @GetMapping("/paths/routes")
+    public ResponseEntity<List<RouteResponse>> getRoutes(@RequestParam final Long source,
+                                                         @RequestParam final Long target) {
+        final List<RouteResponse> routes = pathService.findRoutes(source, target);
+
+        return ResponseEntity.ok().body(routes);
+    }
+
+    @GetMapping("/paths/distance")
+    public ResponseEntity<DistanceResponse> getDistance(@RequestParam final Long source,
+                                                        @RequestParam final Long target) {
+        final DistanceResponse distance = pathService.findDistance(source, target);
+
+        return ResponseEntity.ok().body(distance);
+    }
+}
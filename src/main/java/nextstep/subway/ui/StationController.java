@@ -1,21 +1,41 @@
 package nextstep.subway.ui;
 
+import nextstep.subway.applicaion.DataVersion;
 import nextstep.subway.applicaion.StationService;
+import nextstep.subway.applicaion.dto.StationBulkResponse;
+import nextstep.subway.applicaion.dto.StationBulkRowResponse;
+import nextstep.subway.applicaion.dto.StationLineResponse;
 import nextstep.subway.applicaion.dto.StationRequest;
 import nextstep.subway.applicaion.dto.StationResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 public class StationController {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String CSV_HEADER_PARAMETER = "header";
+    private static final String CSV_HEADER_PRESENT = "present";
+
     private StationService stationService;
+    private JsonSnapshotWriter jsonSnapshotWriter;
+    private NdjsonWriter ndjsonWriter;
 
-    public StationController(StationService stationService) {
+    public StationController(StationService stationService, JsonSnapshotWriter jsonSnapshotWriter, NdjsonWriter ndjsonWriter) {
         this.stationService = stationService;
+        this.jsonSnapshotWriter = jsonSnapshotWriter;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     @PostMapping("/stations")
@@ -24,9 +44,61 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    @PostMapping(value = "/stations/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StationBulkResponse> createStations(@RequestBody List<StationRequest> stationRequests) {
+        return ResponseEntity.ok().body(stationService.saveStations(stationRequests));
+    }
+
+    /**
+     * 행 마다 첫 번째 필드를 역 이름으로 읽는다.
+     * 첫 행은 {@code Content-Type: text/csv; header=present} 로 헤더가 있다고 알린 경우에만 건너뛴다.
+     */
+    @PostMapping(value = "/stations/bulk", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<StationBulkResponse> createStations(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                              InputStream inputStream) throws IOException {
+        boolean hasHeader = CSV_HEADER_PRESENT.equalsIgnoreCase(
+                MediaType.parseMediaType(contentType).getParameter(CSV_HEADER_PARAMETER));
+
+        List<StationRequest> stationRequests = new ArrayList<>();
+        List<Integer> rowNumbers = new ArrayList<>();
+        List<StationBulkRowResponse> skippedRows = new ArrayList<>();
+        CsvReader csvReader = new CsvReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<String> record;
+        for (int row = 1; (record = csvReader.readRecord()) != null; row++) {
+            String name = record.get(0);
+            if (row == 1 && hasHeader) {
+                skippedRows.add(StationBulkRowResponse.skipped(row, name, "헤더 입니다."));
+            } else if (name.isEmpty()) {
+                skippedRows.add(StationBulkRowResponse.skipped(row, name, "빈 행 입니다."));
+            } else {
+                stationRequests.add(new StationRequest(name));
+                rowNumbers.add(row);
+            }
+        }
+
+        return ResponseEntity.ok().body(stationService.saveStations(
+                stationRequests, rowNumbers.stream().mapToInt(Integer::intValue).toArray(), skippedRows));
+    }
+
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<byte[]> showStations(WebRequest request) {
+        return jsonSnapshotWriter.write(DataVersion.STATIONS, request);
+    }
+
+    @GetMapping(value = "/stations", params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StationResponse>> showStations(@RequestParam(defaultValue = "0") Long after,
+                                                              @RequestParam int limit) {
+        return ResponseEntity.ok().body(stationService.findStations(after, limit));
+    }
+
+    @GetMapping(value = "/stations", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamStations(HttpServletResponse response) throws IOException {
+        ndjsonWriter.write(response, stationService::streamStations);
+    }
+
+    @GetMapping("/stations/{id}/lines")
+    public ResponseEntity<List<StationLineResponse>> showStationLines(@PathVariable Long id) {
+        return ResponseEntity.ok().body(stationService.findLinesByStationId(id));
     }
 
     @DeleteMapping("/stations/{id}")
@@ -3,20 +3,51 @@ package nextstep.subway.acceptance;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.subway.applicaion.LineBinaryCodec;
+import nextstep.subway.applicaion.LineService;
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.utils.QueryCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
 import static nextstep.subway.acceptance.StationSteps.지하철_역_생성_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철_역_일괄_생성_요청;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 @DisplayName("지하철 노선 관리 기능")
 class LineAcceptanceTest extends AcceptanceTest {
 
+    private static final int BATCH_SIZE = 50;
+    private static final int ROUNDS = 10;
+    private static final int WRITERS = 8;
+    private static final int SPLITTERS = 4;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * When 지하철 노선 생성을 요청 하면
      * Then 지하철 노선 생성이 성공 한다.
@@ -34,6 +65,100 @@ class LineAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    /**
+     * Given 지하철 역 5 개 생성을 요청 하고
+     * When 순서 대로 나열한 역과 구간 거리로 지하철 노선 일괄 생성을 요청 하면
+     * Then 모든 구간이 등록된 지하철 노선이 생성 된다.
+     */
+    @DisplayName("지하철 노선 일괄 생성")
+    @Test
+    void createLineRoute() {
+        // given
+        final List<String> names = List.of("강남역", "역삼역", "선릉역", "삼성역", "잠실역");
+        final List<Long> stationIds = names.stream()
+                .map(name -> 지하철_역_생성_요청(name).jsonPath().getLong("id"))
+                .collect(Collectors.toList());
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_노선_일괄_생성_요청("2호선", "bg-green-600", stationIds, List.of(1, 2, 3, 4));
+
+        // then
+        final List<String> stationNames = 지하철_노선_조회_요청(response.header("Location")).jsonPath().getList("stations.name");
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value()),
+                () -> assertThat(stationNames).containsExactlyElementsOf(names)
+        );
+    }
+
+    /**
+     * Given 지하철 역 3 개 생성을 요청 하고
+     * When 같은 역이 두 번 포함된 지하철 노선 일괄 생성을 요청 하면
+     * Then 지하철 노선 일괄 생성이 실패 한다.
+     */
+    @DisplayName("중복된 역 으로 지하철 노선 일괄 생성")
+    @Test
+    void createLineRouteWithDuplicateStation() {
+        // given
+        final Long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final Long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final Long 선릉역 = 지하철_역_생성_요청("선릉역").jsonPath().getLong("id");
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_노선_일괄_생성_요청(
+                "2호선", "bg-green-600", List.of(강남역, 역삼역, 선릉역, 강남역), List.of(1, 1, 1)
+        );
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(지하철_노선_목록_조회_요청().jsonPath().getList("name")).isEmpty()
+        );
+    }
+
+    /**
+     * Given 지하철 역 60 개 생성을 요청 하고
+     * When 지하철 노선 일괄 생성을 요청 하면
+     * Then 구간 마다 쿼리를 실행 하지 않고 묶어서 실행 한다.
+     */
+    @DisplayName("지하철 노선 일괄 생성 쿼리 수")
+    @Test
+    void createLineRouteQueryCount() {
+        // given
+        final List<String> names = IntStream.rangeClosed(1, 60)
+                .mapToObj(i -> "역" + i)
+                .collect(Collectors.toList());
+        final List<Long> stationIds = 지하철_역_일괄_생성_요청(names).jsonPath().getList("rows.id", Long.class);
+        final List<Integer> distances = Collections.nCopies(stationIds.size() - 1, 1);
+
+        // when
+        final long queryCount = queryCounter.count(() -> 지하철_노선_일괄_생성_요청("2호선", "bg-green-600", stationIds, distances));
+
+        // then
+        assertThat(queryCount).isLessThanOrEqualTo(10);
+    }
+
+    /**
+     * Given 지하철 역 201 개 생성을 요청 하고
+     * When 구간 50 개인 지하철 노선과 구간 200 개인 지하철 노선 일괄 생성을 요청 하면
+     * Then 구간 저장 쿼리는 구간 수가 아닌 배치 수 만큼 늘어난다.
+     */
+    @DisplayName("지하철 노선 일괄 생성 배치 쿼리 수")
+    @Test
+    void createLineRouteBatchQueryCount() {
+        // given
+        final List<String> names = IntStream.rangeClosed(1, 201)
+                .mapToObj(i -> "역" + i)
+                .collect(Collectors.toList());
+        final List<Long> stationIds = 지하철_역_일괄_생성_요청(names).jsonPath().getList("rows.id", Long.class);
+
+        // when
+        final long smallQueryCount = queryCounter.count(() -> 지하철_노선_일괄_생성_요청("1호선", "bg-blue-600", stationIds.subList(0, 51), Collections.nCopies(50, 1)));
+        final long largeQueryCount = queryCounter.count(() -> 지하철_노선_일괄_생성_요청("2호선", "bg-green-600", stationIds, Collections.nCopies(200, 1)));
+
+        // then
+        assertThat(largeQueryCount - smallQueryCount).isLessThanOrEqualTo(150 / BATCH_SIZE * 2);
+    }
+
     /**
      * Given 지하철 노선 생성을 요청 하고
      * When 같은 이름 으로 지하철 노선 생성을 요청 하면
@@ -78,6 +203,210 @@ class LineAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    /**
+     * Given 지하철 노선 목록 조회를 요청 하고
+     * When 응답 받은 ETag 로 지하철 노선 목록 조회를 요청 하면
+     * Then 변경 되지 않음을 응답 받는다.
+     * When 지하철 노선 수정 후 같은 ETag 로 지하철 노선 목록 조회를 요청 하면
+     * Then 수정된 지하철 노선 목록을 응답 받는다.
+     */
+    @DisplayName("ETag 로 지하철 노선 목록 조회")
+    @Test
+    void getLinesWithETag() {
+        // given
+        final String path = 지하철_노선_생성_요청().header("Location");
+        final String eTag = 지하철_노선_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        final ExtractableResponse<Response> notModifiedResponse = 지하철_노선_목록_조회_요청(eTag);
+        지하철_노선_수정_요청(path, "구분당선", "bg-blue-600");
+        final ExtractableResponse<Response> modifiedResponse = 지하철_노선_목록_조회_요청(eTag);
+
+        // then
+        assertAll(
+                () -> assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag),
+                () -> assertThat(modifiedResponse.jsonPath().getList("name")).containsExactly("구분당선")
+        );
+    }
+
+    /**
+     * Given 여러 구간이 등록된 지하철 노선 생성을 요청 하고
+     * Given 새로운 지하철 노선 생성을 요청 하고
+     * When 지하철 노선 목록 조회를 요청 하면
+     * Then 미리 직렬화 해둔 목록 으로 응답 하여 쿼리를 실행 하지 않고
+     * Then 목록을 다시 직렬화 할 때도 노선 수와 구간 수에 상관 없이 한 번의 쿼리로 조회 한다.
+     */
+    @DisplayName("지하철 노선 목록 조회 쿼리 수")
+    @Test
+    void getLinesQueryCount() {
+        // given
+        final JsonPath createLineResponseBody = 지하철_노선_생성_요청().jsonPath();
+        final long lineId = createLineResponseBody.getLong("id");
+        long upStationId = createLineResponseBody.getLong("stations[1].id");
+        for (final String name : List.of("잠실역", "사당역", "신림역")) {
+            final long downStationId = 지하철_역_생성_요청(name).jsonPath().getLong("id");
+            지하철_구간_등록_요청(lineId, upStationId, downStationId, 1);
+            upStationId = downStationId;
+        }
+        지하철_노선_생성_요청("2호선", "bg-green-600", "합정역", "당산역");
+
+        // when
+        final long queryCount = queryCounter.count(LineSteps::지하철_노선_목록_조회_요청);
+        final long rebuildQueryCount = queryCounter.count(lineService::findAllLines);
+
+        // then
+        assertAll(
+                () -> assertThat(queryCount).isZero(),
+                () -> assertThat(rebuildQueryCount).isEqualTo(1)
+        );
+    }
+
+    /**
+     * Given 여러 구간이 등록된 지하철 노선 생성을 요청 하고
+     * When 생성한 지하철 노선 조회를 요청 하면
+     * Then 한 번의 쿼리로 조회 한다.
+     */
+    @DisplayName("지하철 노선 조회 쿼리 수")
+    @Test
+    void getLineQueryCount() {
+        // given
+        final JsonPath createLineResponseBody = 지하철_노선_생성_요청().jsonPath();
+        final long lineId = createLineResponseBody.getLong("id");
+        final long upStationId = createLineResponseBody.getLong("stations[1].id");
+        final long downStationId = 지하철_역_생성_요청("잠실역").jsonPath().getLong("id");
+        지하철_구간_등록_요청(lineId, upStationId, downStationId, 1);
+
+        // when
+        final long queryCount = queryCounter.count(() -> 지하철_노선_조회_요청(String.format("/lines/%d", lineId)));
+
+        // then
+        assertThat(queryCount).isEqualTo(1);
+    }
+
+    /**
+     * Given 지하철 노선 3 개 생성을 요청 하고
+     * When 2 개씩 지하철 노선 목록 페이지 조회를 요청 하면
+     * Then 마지막 노선 이후의 지하철 노선 목록을 응답 받는다.
+     */
+    @DisplayName("지하철 노선 목록 페이지 조회")
+    @Test
+    void getLinesPage() {
+        // given
+        지하철_노선_생성_요청("신분당선", "bg-red-600", "강남역", "역삼역");
+        지하철_노선_생성_요청("2호선", "bg-green-600", "합정역", "당산역");
+        지하철_노선_생성_요청("3호선", "bg-orange-600", "교대역", "양재역");
+
+        // when
+        final ExtractableResponse<Response> firstPage = 지하철_노선_목록_페이지_조회_요청(0L, 2);
+        final List<Long> firstPageIds = firstPage.jsonPath().getList("id", Long.class);
+        final ExtractableResponse<Response> secondPage = 지하철_노선_목록_페이지_조회_요청(firstPageIds.get(1), 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.jsonPath().getList("name")).containsExactly("신분당선", "2호선"),
+                () -> assertThat(secondPage.jsonPath().getList("name")).containsExactly("3호선"),
+                () -> assertThat(secondPage.jsonPath().getList("stations[0].name")).containsExactly("교대역", "양재역")
+        );
+    }
+
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * Given 새로운 지하철 노선 생성을 요청 하고
+     * When NDJSON 으로 지하철 노선 목록 조회를 요청 하면
+     * Then 한 줄에 하나씩 지하철 노선을 응답 받는다.
+     */
+    @DisplayName("지하철 노선 목록 스트림 조회")
+    @Test
+    void streamLines() {
+        // given
+        지하철_노선_생성_요청("신분당선", "bg-red-600", "강남역", "역삼역");
+        지하철_노선_생성_요청("2호선", "bg-green-600", "합정역", "당산역");
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_노선_목록_스트림_조회_요청();
+
+        // then
+        final String[] lines = response.asString().split("\\n");
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines[0]).contains("신분당선", "강남역", "역삼역"),
+                () -> assertThat(lines[1]).contains("2호선", "합정역", "당산역")
+        );
+    }
+
+    /**
+     * Given 역 하나를 함께 지나는 지하철 노선 두 개 생성을 요청 하고
+     * When 바이너리 형식 으로 지하철 노선 목록 조회를 요청 하면
+     * Then JSON 과 같은 지하철 노선 목록을 더 작은 크기로 응답 받는다.
+     */
+    @DisplayName("바이너리 형식 으로 지하철 노선 목록 조회")
+    @Test
+    void getLinesBinary() {
+        // given
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final long 양재역 = 지하철_역_생성_요청("양재역").jsonPath().getLong("id");
+        지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 역삼역, 10);
+        지하철_노선_생성_요청("신분당선", "bg-red-600", 강남역, 양재역, 5);
+        final ExtractableResponse<Response> jsonResponse = 지하철_노선_목록_조회_요청();
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_노선_목록_바이너리_조회_요청();
+
+        // then
+        final byte[] body = response.asByteArray();
+        final List<LineResponse> lines = LineBinaryCodec.decode(body);
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.contentType()).isEqualTo(LineBinaryCodec.MEDIA_TYPE_VALUE),
+                () -> assertThat(response.header(HttpHeaders.ETAG)).isNotEqualTo(jsonResponse.header(HttpHeaders.ETAG)),
+                () -> assertThat(lines).extracting(LineResponse::getName).containsExactly("2호선", "신분당선"),
+                () -> assertThat(lines.get(1).getStations()).extracting(StationResponse::getId).containsExactly(강남역, 양재역),
+                () -> assertThat(lines.get(1).getStations().get(0).getCreatedDate())
+                        .isEqualTo(LocalDateTime.parse(jsonResponse.jsonPath().getString("[1].stations[0].createdDate"))),
+                () -> assertThat(body.length).isLessThan(jsonResponse.asByteArray().length / 2)
+        );
+    }
+
+    /**
+     * Given 역 하나를 함께 지나는 지하철 노선 두 개 생성을 요청 하고
+     * Given 한 노선의 역 사이에 구간 등록을 요청 하고
+     * When 지하철 노선망 조회를 요청 하면
+     * Then 역은 한 번씩, 노선은 역 id 와 구간 거리 순서로 응답 받고
+     * Then 노선 수와 구간 수에 상관 없이 두 번의 쿼리로 조회 한다.
+     */
+    @DisplayName("지하철 노선망 조회")
+    @Test
+    void getNetwork() {
+        // given
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final long 양재역 = 지하철_역_생성_요청("양재역").jsonPath().getLong("id");
+        final long 선릉역 = 지하철_역_생성_요청("선릉역").jsonPath().getLong("id");
+        final long 이호선 = 지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 선릉역, 10).jsonPath().getLong("id");
+        지하철_노선_생성_요청("신분당선", "bg-red-600", 강남역, 양재역, 5);
+        지하철_구간_등록_요청(이호선, 강남역, 역삼역, 4);
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_노선망_조회_요청();
+        final long queryCount = queryCounter.count(lineService::findNetwork);
+
+        // then
+        final JsonPath body = response.jsonPath();
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(body.getList("stations.name")).containsExactly("강남역", "역삼역", "양재역", "선릉역"),
+                () -> assertThat(body.getList("lines.name")).containsExactly("2호선", "신분당선"),
+                () -> assertThat(body.getList("lines[0].stationIds", Long.class)).containsExactly(강남역, 역삼역, 선릉역),
+                () -> assertThat(body.getList("lines[0].distances", Integer.class)).containsExactly(4, 6),
+                () -> assertThat(body.getList("lines[1].stationIds", Long.class)).containsExactly(강남역, 양재역),
+                () -> assertThat(queryCount).isEqualTo(2)
+        );
+    }
+
     /**
      * Given 지하철 노선 생성을 요청 하고
      * When 생성한 지하철 노선 조회를 요청 하면
@@ -142,6 +471,28 @@ class LineAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * When 트랜잭션 안에서 지하철 노선을 조회 한 뒤 그 트랜잭션이 끝나기 전에 지하철 노선 수정을 요청 하면
+     * Then 조회한 트랜잭션의 커밋 이후에도 수정된 지하철 노선을 응답 받는다.
+     */
+    @DisplayName("수정 커밋 전에 조회한 지하철 노선은 다시 응답 하지 않는다")
+    @Test
+    void getLineReadBeforeUpdateCommit() {
+        // given
+        final String path = 지하철_노선_생성_요청("신분당선", "bg-red-600").header("Location");
+        final long lineId = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            lineService.findLineById(lineId);
+            CompletableFuture.runAsync(() -> 지하철_노선_수정_요청(path, "구분당선", "bg-blue-600")).join();
+        });
+
+        // then
+        assertThat(지하철_노선_조회_요청(path).jsonPath().getString("name")).isEqualTo("구분당선");
+    }
+
     /**
      * Given 지하철 노선 생성을 요청 하고
      * When 생성한 지하철 노선 삭제를 요청 하면
@@ -197,6 +548,63 @@ class LineAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * Given 지하철 역 생성을 요청 하고
+     * When 노선에 등록된 상행 종점 역을 하행 역으로
+     * When 새로 생성한 역을 상행 역으로
+     * When 지하철 구간 등록을 요청 하면
+     * Then 새로 생성한 역이 상행 종점 역이 된다.
+     */
+    @DisplayName("상행 종점 역 앞에 지하철 구간 등록")
+    @Test
+    void addSectionBeforeStartingStation() {
+        // given
+        final JsonPath createLineResponseBody = 지하철_노선_생성_요청().jsonPath();
+        final long lineId = createLineResponseBody.getLong("id");
+        final long downStationId = createLineResponseBody.getLong("stations[0].id");
+        final long upStationId = 지하철_역_생성_요청("신사역").jsonPath().getLong("id");
+
+        // when
+        final int statusCode = 지하철_구간_등록_요청(lineId, upStationId, downStationId, 3).statusCode();
+
+        // then
+        final List<String> stationNames = 지하철_노선_조회_요청(String.format("/lines/%d", lineId)).jsonPath().getList("stations.name");
+        assertAll(
+                () -> assertThat(statusCode).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(stationNames).containsExactly("신사역", "강남역", "역삼역")
+        );
+    }
+
+    /**
+     * Given 거리가 10인 지하철 노선 생성을 요청 하고
+     * Given 지하철 역 생성을 요청 하고
+     * When 상행 종점 역과 새로 생성한 역 사이에 거리가 4인 지하철 구간 등록을 요청 하면
+     * Then 새로 생성한 역이 두 역 사이에 등록 되고
+     * Then 경로 조회 시 나뉜 구간의 거리가 반영 된다.
+     */
+    @DisplayName("역 사이에 지하철 구간 등록")
+    @Test
+    void addSectionBetweenStations() {
+        // given
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final long lineId = 지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 역삼역, 10).jsonPath().getLong("id");
+        final long 선릉역 = 지하철_역_생성_요청("선릉역").jsonPath().getLong("id");
+
+        // when
+        final int statusCode = 지하철_구간_등록_요청(lineId, 강남역, 선릉역, 4).statusCode();
+
+        // then
+        final List<String> stationNames = 지하철_노선_조회_요청(String.format("/lines/%d", lineId)).jsonPath().getList("stations.name");
+        assertAll(
+                () -> assertThat(statusCode).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(stationNames).containsExactly("강남역", "선릉역", "역삼역"),
+                () -> assertThat(지하철_경로_조회_요청(선릉역, 역삼역).jsonPath().getInt("distance")).isEqualTo(6),
+                () -> assertThat(지하철_경로_조회_요청(강남역, 역삼역).jsonPath().getInt("distance")).isEqualTo(10)
+        );
+    }
+
     /**
      * Given 지하철 노선 생성을 요청 하고
      * Given 지하철 역 생성을 요청 하고
@@ -278,25 +686,30 @@ class LineAcceptanceTest extends AcceptanceTest {
      * Given 지하철 노선 생성을 요청 하고
      * Given 지하철 역 생성을 요청 하고
      * Given 지하철 구간 등록을 요청 하고
-     * When 하행 종점 역이 아닌 지하철 구간 제거를 요청 하면
-     * Then 지하철 구간 제거가 실패 한다.
+     * When 중간 역으로 지하철 구간 제거를 요청 하면
+     * Then 앞뒤 구간이 합쳐지고 거리가 더해 진다.
      */
-    @DisplayName("하행 종점 역이 아닌 지하철 구간 제거")
+    @DisplayName("중간 역 지하철 구간 제거")
     @Test
-    void removeSectionWithoutEndingStation() {
+    void removeSectionWithMiddleStation() {
         // given
-        final JsonPath createLineResponseBody = 지하철_노선_생성_요청().jsonPath();
-
-        final long lineId = createLineResponseBody.getLong("id");
-        final long upStationId = createLineResponseBody.getLong("stations[1].id");
-        final long downStationId = 지하철_역_생성_요청("잠실역").jsonPath().getLong("id");
-        지하철_구간_등록_요청(lineId, upStationId, downStationId, 1);
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final long 잠실역 = 지하철_역_생성_요청("잠실역").jsonPath().getLong("id");
+        final long lineId = 지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 역삼역, 3).jsonPath().getLong("id");
+        지하철_구간_등록_요청(lineId, 역삼역, 잠실역, 4);
 
         // when
-        final int responseStatusCod = 지하철_구간_제거_요청(lineId, upStationId).statusCode();
+        final int responseStatusCode = 지하철_구간_제거_요청(lineId, 역삼역).statusCode();
 
         // then
-        assertThat(responseStatusCod).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        final List<String> stationNames = 지하철_노선_조회_요청(String.format("/lines/%d", lineId)).jsonPath().getList("stations.name");
+        assertAll(
+                () -> assertThat(responseStatusCode).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(stationNames).containsExactly("강남역", "잠실역"),
+                () -> assertThat(지하철_경로_조회_요청(강남역, 잠실역).jsonPath().getInt("distance")).isEqualTo(7),
+                () -> assertThat(지하철_경로_조회_요청(강남역, 역삼역).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value())
+        );
     }
 
     /**
@@ -319,4 +732,110 @@ class LineAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(responseStatusCod).isEqualTo(HttpStatus.BAD_REQUEST.value());
     }
+
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * When 여러 요청이 동시에 같은 하행 종점 역에 구간 등록을 요청 하는 것을 반복 하면
+     * Then 매번 한 요청만 등록 되어 노선이 갈라지지 않는다.
+     */
+    @DisplayName("지하철 구간 동시 등록")
+    @Test
+    void addSectionConcurrently() throws InterruptedException, ExecutionException {
+        // given
+        final JsonPath createLineResponseBody = 지하철_노선_생성_요청().jsonPath();
+        final long lineId = createLineResponseBody.getLong("id");
+        final List<String> names = IntStream.rangeClosed(1, ROUNDS * WRITERS)
+                .mapToObj(i -> "역" + i)
+                .collect(Collectors.toList());
+        final List<Long> stationIds = 지하철_역_일괄_생성_요청(names).jsonPath().getList("rows.id", Long.class);
+
+        // when
+        final List<Long> addedStationIds = new ArrayList<>();
+        long endingStationId = createLineResponseBody.getLong("stations[1].id");
+        final ExecutorService executorService = Executors.newFixedThreadPool(WRITERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final long upStationId = endingStationId;
+                final List<Long> downStationIds = stationIds.subList(round * WRITERS, (round + 1) * WRITERS);
+                final List<Future<Integer>> statusCodes = executorService.invokeAll(downStationIds.stream()
+                        .map(downStationId -> (Callable<Integer>) () -> 지하철_구간_등록_요청(lineId, upStationId, downStationId, 1).statusCode())
+                        .collect(Collectors.toList()));
+
+                for (int i = 0; i < WRITERS; i++) {
+                    if (statusCodes.get(i).get() == HttpStatus.NO_CONTENT.value()) {
+                        endingStationId = downStationIds.get(i);
+                        addedStationIds.add(endingStationId);
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // then
+        final List<Long> lineStationIds = 지하철_노선_조회_요청(String.format("/lines/%d", lineId)).jsonPath().getList("stations.id", Long.class);
+        assertAll(
+                () -> assertThat(addedStationIds).hasSize(ROUNDS),
+                () -> assertThat(lineStationIds).hasSize(ROUNDS + 2).doesNotHaveDuplicates(),
+                () -> assertThat(lineStationIds.subList(2, lineStationIds.size())).containsExactlyElementsOf(addedStationIds)
+        );
+    }
+
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * When 여러 요청이 동시에 서로 다른 구간을 나누는 구간 등록을 요청 하는 것을 반복 하면
+     * Then 노선 버전 충돌로 실패한 요청도 다시 시도 되어 모든 요청이 등록 된다.
+     */
+    @DisplayName("서로 다른 지하철 구간 동시 분할")
+    @Test
+    void splitSectionsConcurrently() throws InterruptedException, ExecutionException {
+        // given
+        final List<Long> baseStationIds = 지하철_역_일괄_생성_요청(IntStream.rangeClosed(0, SPLITTERS)
+                .mapToObj(i -> "기점" + i)
+                .collect(Collectors.toList())).jsonPath().getList("rows.id", Long.class);
+        final long lineId = 지하철_노선_일괄_생성_요청(
+                "2호선", "bg-green-600", baseStationIds, Collections.nCopies(SPLITTERS, ROUNDS + 1)
+        ).jsonPath().getLong("id");
+        final List<Long> stationIds = 지하철_역_일괄_생성_요청(IntStream.rangeClosed(1, ROUNDS * SPLITTERS)
+                .mapToObj(i -> "분기" + i)
+                .collect(Collectors.toList())).jsonPath().getList("rows.id", Long.class);
+
+        // when
+        final List<Integer> statusCodes = new ArrayList<>();
+        final List<Long> upStationIds = new ArrayList<>(baseStationIds.subList(0, SPLITTERS));
+        final ExecutorService executorService = Executors.newFixedThreadPool(SPLITTERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                final List<Long> downStationIds = stationIds.subList(round * SPLITTERS, (round + 1) * SPLITTERS);
+                final List<Callable<Integer>> requests = new ArrayList<>();
+                for (int i = 0; i < SPLITTERS; i++) {
+                    final long upStationId = upStationIds.get(i);
+                    final long downStationId = downStationIds.get(i);
+                    requests.add(() -> 지하철_구간_등록_요청(lineId, upStationId, downStationId, 1).statusCode());
+                }
+                for (final Future<Integer> statusCode : executorService.invokeAll(requests)) {
+                    statusCodes.add(statusCode.get());
+                }
+                upStationIds.clear();
+                upStationIds.addAll(downStationIds);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        // then
+        final List<Long> expectedStationIds = new ArrayList<>();
+        for (int i = 0; i < SPLITTERS; i++) {
+            expectedStationIds.add(baseStationIds.get(i));
+            for (int round = 0; round < ROUNDS; round++) {
+                expectedStationIds.add(stationIds.get(round * SPLITTERS + i));
+            }
+        }
+        expectedStationIds.add(baseStationIds.get(SPLITTERS));
+        final List<Long> lineStationIds = 지하철_노선_조회_요청(String.format("/lines/%d", lineId)).jsonPath().getList("stations.id", Long.class);
+        assertAll(
+                () -> assertThat(statusCodes).hasSize(ROUNDS * SPLITTERS).containsOnly(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(lineStationIds).containsExactlyElementsOf(expectedStationIds)
+        );
+    }
 }
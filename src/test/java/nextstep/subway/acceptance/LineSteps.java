@@ -3,9 +3,12 @@ package nextstep.subway.acceptance;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.subway.applicaion.LineBinaryCodec;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static nextstep.subway.acceptance.StationSteps.지하철_역_생성_요청;
@@ -53,10 +56,69 @@ public class LineSteps {
         return 지하철_노선_생성_요청("신분당선", "bg-red-600");
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_일괄_생성_요청(
+            final String name, final String color, final List<Long> stationIds, final List<Integer> distances
+    ) {
+        final Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("name", name);
+        requestParams.put("color", color);
+        requestParams.put("stationIds", stationIds);
+        requestParams.put("distances", distances);
+
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(requestParams)
+                .when()
+                .post("/lines/bulk")
+                .then().log().all()
+                .extract();
+    }
+
             public static ExtractableResponse<Response> 지하철_노선_목록_조회_요청() {
         return 지하철_노선_조회_요청("/lines");
     }
 
+    public static ExtractableResponse<Response> 지하철_노선_목록_조회_요청(final String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when()
+                .get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_페이지_조회_요청(final Long after, final int limit) {
+        return RestAssured.given().log().all()
+                .queryParam("after", after)
+                .queryParam("limit", limit)
+                .when()
+                .get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_스트림_조회_요청() {
+        return RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when()
+                .get("/lines")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_목록_바이너리_조회_요청() {
+        return RestAssured.given().log().all()
+                .accept(LineBinaryCodec.MEDIA_TYPE_VALUE)
+                .when()
+                .get("/lines")
+                .then().log().headers()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선망_조회_요청() {
+        return 지하철_노선_조회_요청("/network");
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_조회_요청(final String path) {
         return RestAssured.given().log().all()
                 .when()
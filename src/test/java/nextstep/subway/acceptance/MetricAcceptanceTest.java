@@ -0,0 +1,65 @@
+package nextstep.subway.acceptance;
+
+import nextstep.subway.applicaion.LineMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_목록_조회_요청;
+import static nextstep.subway.acceptance.MetricSteps.프로메테우스_지표_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철_역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지표 수집 기능")
+@AutoConfigureMetrics
+class MetricAcceptanceTest extends AcceptanceTest {
+
+    @Autowired
+    private LineMetrics lineMetrics;
+
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * When 지하철 노선 목록 조회 후 지표 조회를 요청 하면
+     * Then 요청, 서비스, 저장소 호출 시간과 노선 별 구간 수를 응답 받는다.
+     */
+    @DisplayName("요청, 서비스, 저장소 지표 조회")
+    @Test
+    void getMetrics() {
+        // given
+        final long lineId = 지하철_노선_생성_요청().jsonPath().getLong("id");
+        lineMetrics.refresh();
+
+        // when
+        지하철_노선_목록_조회_요청();
+        final String metrics = 프로메테우스_지표_조회_요청();
+
+        // then
+        assertThat(metrics).contains(
+                "http_server_requests_seconds_count{exception=\"None\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/lines\",}",
+                "subway_service_seconds_count{class=\"nextstep.subway.applicaion.LineService\",exception=\"none\",method=\"findAllLines\",}",
+                "spring_data_repository_invocations_seconds_count{exception=\"None\",method=\"findAllWithStations\",repository=\"LineRepository\",state=\"SUCCESS\",}",
+                "subway_line_sections{line=\"" + lineId + "\",} 1.0"
+        );
+    }
+
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * When 같은 이름 으로 지하철 역 생성 후 지표 조회를 요청 하면
+     * Then 예외 종류가 포함된 요청 지표를 응답 받는다.
+     */
+    @DisplayName("예외 종류 별 요청 지표 조회")
+    @Test
+    void getErrorMetrics() {
+        // given
+        지하철_역_생성_요청("강남역");
+
+        // when
+        지하철_역_생성_요청("강남역");
+        final String metrics = 프로메테우스_지표_조회_요청();
+
+        // then
+        assertThat(metrics).contains("exception=\"DuplicateArgumentException\",method=\"POST\",outcome=\"CLIENT_ERROR\",status=\"409\",uri=\"/stations\"");
+    }
+}
@@ -0,0 +1,16 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.RestAssured;
+
+public class MetricSteps {
+
+    public static String 프로메테우스_지표_조회_요청() {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/actuator/prometheus")
+                .then()
+                .extract()
+                .asString();
+    }
+
+}
@@ -0,0 +1,168 @@
+package nextstep.subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static nextstep.subway.acceptance.LineSteps.*;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_경로_후보_조회_요청;
+import static nextstep.subway.acceptance.PathSteps.지하철_역_간_거리_조회_요청;
+import static nextstep.subway.acceptance.StationSteps.지하철_역_생성_요청;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("지하철 경로 검색")
+class PathAcceptanceTest extends AcceptanceTest {
+
+    private Long 교대역;
+    private Long 강남역;
+    private Long 양재역;
+    private Long 남부터미널역;
+    private Long 이호선;
+    private Long 삼호선;
+
+    /**
+     * 교대역    --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역  --- *3호선* ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        교대역 = 지하철_역_생성_요청("교대역").jsonPath().getLong("id");
+        강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        양재역 = 지하철_역_생성_요청("양재역").jsonPath().getLong("id");
+        남부터미널역 = 지하철_역_생성_요청("남부터미널역").jsonPath().getLong("id");
+
+        이호선 = 지하철_노선_생성_요청("2호선", "bg-green-600", 교대역, 강남역, 10).jsonPath().getLong("id");
+        지하철_노선_생성_요청("신분당선", "bg-red-600", 강남역, 양재역, 10);
+        삼호선 = 지하철_노선_생성_요청("3호선", "bg-orange-600", 교대역, 남부터미널역, 2).jsonPath().getLong("id");
+        지하철_구간_등록_요청(삼호선, 남부터미널역, 양재역, 3);
+    }
+
+    /**
+     * When 출발역 에서 도착역 까지의 경로 조회를 요청 하면
+     * Then 최단 거리 경로를 응답 받는다.
+     */
+    @DisplayName("최단 거리 경로 조회")
+    @Test
+    void findPath() {
+        // when
+        final ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 양재역);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역, 남부터미널역, 양재역),
+                () -> assertThat(response.jsonPath().getInt("distance")).isEqualTo(5)
+        );
+    }
+
+    /**
+     * Given 지하철 노선을 삭제 하고
+     * When 출발역 에서 도착역 까지의 경로 조회를 요청 하면
+     * Then 삭제된 노선을 제외한 최단 거리 경로를 응답 받는다.
+     */
+    @DisplayName("노선 삭제 후 최단 거리 경로 조회")
+    @Test
+    void findPathAfterDeleteLine() {
+        // given
+        지하철_노선_삭제_요청(String.format("/lines/%d", 이호선));
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_경로_조회_요청(강남역, 교대역);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(강남역, 양재역, 남부터미널역, 교대역),
+                () -> assertThat(response.jsonPath().getInt("distance")).isEqualTo(15)
+        );
+    }
+
+    /**
+     * When 출발역과 도착역이 같은 경로 조회를 요청 하면
+     * Then 경로 조회가 실패 한다.
+     */
+    @DisplayName("출발역과 도착역이 같은 경로 조회")
+    @Test
+    void findPathWithSameStation() {
+        // when
+        final ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 교대역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 노선에 연결되지 않은 지하철 역을 생성 하고
+     * When 연결되지 않은 역 까지의 경로 조회를 요청 하면
+     * Then 경로 조회가 실패 한다.
+     */
+    @DisplayName("연결되지 않은 역 까지의 경로 조회")
+    @Test
+    void findPathWithUnconnectedStation() {
+        // given
+        final Long 사당역 = 지하철_역_생성_요청("사당역").jsonPath().getLong("id");
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_경로_조회_요청(교대역, 사당역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 강남역 에서 남부터미널역 까지 환승 없이 가는 먼 노선을 생성 하고
+     * When 출발역 에서 도착역 까지의 경로 후보 조회를 요청 하면
+     * Then 거리가 짧은 환승 경로와 환승 없는 경로를 응답 받는다.
+     */
+    @DisplayName("거리와 환승 횟수 기준 경로 후보 조회")
+    @Test
+    void findRoutes() {
+        // given
+        지하철_노선_생성_요청("급행선", "bg-blue-600", 강남역, 남부터미널역, 20);
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_경로_후보_조회_요청(강남역, 남부터미널역);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getList("distance", Integer.class)).containsExactly(12, 20),
+                () -> assertThat(response.jsonPath().getList("transfers", Integer.class)).containsExactly(1, 0),
+                () -> assertThat(response.jsonPath().getList("[0].stations.id", Long.class)).containsExactly(강남역, 교대역, 남부터미널역),
+                () -> assertThat(response.jsonPath().getList("[0].lines.name", String.class)).containsExactly("2호선", "3호선"),
+                () -> assertThat(response.jsonPath().getList("[1].lines.name", String.class)).containsExactly("급행선")
+        );
+    }
+
+    /**
+     * When 역 간 거리 조회를 요청 하고
+     * When 최단 경로의 노선을 삭제한 뒤 역 간 거리 조회를 요청 하면
+     * Then 삭제 전후의 최단 거리를 응답 받는다.
+     */
+    @DisplayName("역 간 거리 조회")
+    @Test
+    void findDistance() {
+        // when
+        final ExtractableResponse<Response> response1 = 지하철_역_간_거리_조회_요청(교대역, 양재역);
+        지하철_노선_삭제_요청(String.format("/lines/%d", 삼호선));
+        final ExtractableResponse<Response> response2 = 지하철_역_간_거리_조회_요청(교대역, 양재역);
+
+        // then
+        assertAll(
+                () -> assertThat(response1.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response1.jsonPath().getInt("distance")).isEqualTo(5),
+                () -> assertThat(response2.jsonPath().getInt("distance")).isEqualTo(20),
+                () -> assertThat(지하철_역_간_거리_조회_요청(교대역, 남부터미널역).statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value())
+        );
+    }
+}
@@ -1,13 +1,25 @@
 package nextstep.subway.acceptance;
 
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.service.NameIndex;
+import nextstep.subway.utils.QueryCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_삭제_요청;
+import static nextstep.subway.acceptance.LineSteps.지하철_노선_생성_요청;
 import static nextstep.subway.acceptance.StationSteps.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -15,6 +27,15 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 @DisplayName("지하철 역 관리 기능")
 class StationAcceptanceTest extends AcceptanceTest {
 
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private NameIndex<Station> stationNameIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * When 지하철 역 생성을 요청 하면
      * Then 지하철 역 생성이 성공 한다.
@@ -51,6 +72,27 @@ class StationAcceptanceTest extends AcceptanceTest {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
     }
 
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * Given 이름 색인에 반영 되기 전 이라면
+     * When 같은 이름 으로 지하철 역 생성을 요청 하면
+     * Then 유일 제약 조건 으로 지하철 역 생성이 실패 한다.
+     */
+    @DisplayName("이름 색인에 없는 중복 이름 으로 지하철 역 생성")
+    @Test
+    void createStationWithDuplicateNameNotIndexed() {
+        // given
+        final String 강남역 = "강남역";
+        지하철_역_생성_요청(강남역);
+        stationNameIndex.clear();
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_생성_요청(강남역);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+    }
+
     /**
      * Given 지하철 역 생성을 요청 하고
      * Given 새로운 지하철 역 생성을 요청 하고
@@ -77,6 +119,284 @@ class StationAcceptanceTest extends AcceptanceTest {
         );
     }
 
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * Given 지하철 역 목록 조회를 요청 하고
+     * When 지하철 역 목록 조회를 다시 요청 하면
+     * Then 쿼리 실행 없이 미리 직렬화 해둔 목록을 응답 받는다.
+     */
+    @DisplayName("지하철 역 목록 조회 스냅샷")
+    @Test
+    void getStationsFromSnapshot() {
+        // given
+        지하철_역_생성_요청("강남역");
+        지하철_역_목록_조회_요청();
+
+        // when
+        final long queryCount = queryCounter.count(StationSteps::지하철_역_목록_조회_요청);
+
+        // then
+        assertAll(
+                () -> assertThat(지하철_역_목록_조회_요청().jsonPath().getList("name")).containsExactly("강남역"),
+                () -> assertThat(queryCount).isZero()
+        );
+    }
+
+    /**
+     * Given 지하철 역 목록 조회를 요청 하고
+     * When 새로운 지하철 역 생성을 요청 하면
+     * Then 지하철 역 목록 조회 결과에 새로운 역이 포함 된다.
+     */
+    @DisplayName("지하철 역 생성 후 캐시 무효화")
+    @Test
+    void getStationsAfterCreate() {
+        // given
+        지하철_역_생성_요청("강남역");
+        지하철_역_목록_조회_요청();
+
+        // when
+        지하철_역_생성_요청("역삼역");
+
+        // then
+        final List<String> stationNames = 지하철_역_목록_조회_요청().jsonPath().getList("name");
+        assertThat(stationNames).containsExactly("강남역", "역삼역");
+    }
+
+    /**
+     * Given 지하철 역 목록 조회를 요청 하고
+     * When 응답 받은 ETag 로 지하철 역 목록 조회를 요청 하면
+     * Then 변경 되지 않음을 응답 받는다.
+     * When 새로운 지하철 역 생성 후 같은 ETag 로 지하철 역 목록 조회를 요청 하면
+     * Then 새로운 지하철 역 목록을 응답 받는다.
+     */
+    @DisplayName("ETag 로 지하철 역 목록 조회")
+    @Test
+    void getStationsWithETag() {
+        // given
+        지하철_역_생성_요청("강남역");
+        final String eTag = 지하철_역_목록_조회_요청().header(HttpHeaders.ETAG);
+
+        // when
+        final ExtractableResponse<Response> notModifiedResponse = 지하철_역_목록_조회_요청(eTag);
+        지하철_역_생성_요청("역삼역");
+        final ExtractableResponse<Response> modifiedResponse = 지하철_역_목록_조회_요청(eTag);
+
+        // then
+        assertAll(
+                () -> assertThat(notModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(modifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(modifiedResponse.header(HttpHeaders.ETAG)).isNotEqualTo(eTag),
+                () -> assertThat(modifiedResponse.jsonPath().getList("name")).contains("강남역", "역삼역")
+        );
+    }
+
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * When gzip 을 허용 하는 지하철 역 목록 조회와 허용 하지 않는 지하철 역 목록 조회를 요청 하면
+     * Then 압축 여부 마다 다른 ETag 를 응답 받는다.
+     * When gzip 응답의 ETag 로 gzip 을 허용 하지 않는 지하철 역 목록 조회를 요청 하면
+     * Then 새로운 지하철 역 목록을 응답 받는다.
+     */
+    @DisplayName("압축 여부 마다 다른 ETag 로 지하철 역 목록 조회")
+    @Test
+    void getStationsWithETagPerEncoding() {
+        // given
+        지하철_역_생성_요청("강남역");
+
+        // when
+        final ExtractableResponse<Response> gzipResponse = 지하철_역_목록_조회_요청("gzip", "");
+        final ExtractableResponse<Response> identityResponse = 지하철_역_목록_조회_요청("gzip;q=0, identity", "");
+        final ExtractableResponse<Response> gzipNotModifiedResponse =
+                지하철_역_목록_조회_요청("deflate, gzip; q=0.5", gzipResponse.header(HttpHeaders.ETAG));
+        final ExtractableResponse<Response> identityModifiedResponse =
+                지하철_역_목록_조회_요청("gzip;q=0", gzipResponse.header(HttpHeaders.ETAG));
+
+        // then
+        assertAll(
+                () -> assertThat(gzipResponse.header(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip"),
+                () -> assertThat(identityResponse.header(HttpHeaders.CONTENT_ENCODING)).isNull(),
+                () -> assertThat(identityResponse.header(HttpHeaders.ETAG)).isNotEqualTo(gzipResponse.header(HttpHeaders.ETAG)),
+                () -> assertThat(gzipNotModifiedResponse.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value()),
+                () -> assertThat(identityModifiedResponse.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(identityModifiedResponse.header(HttpHeaders.ETAG)).isEqualTo(identityResponse.header(HttpHeaders.ETAG)),
+                () -> assertThat(identityModifiedResponse.jsonPath().getList("name")).containsExactly("강남역")
+        );
+    }
+
+    /**
+     * Given 지하철 역 3 개 생성을 요청 하고
+     * When 2 개씩 지하철 역 목록 페이지 조회를 요청 하면
+     * Then 마지막 역 이후의 지하철 역 목록을 응답 받는다.
+     */
+    @DisplayName("지하철 역 목록 페이지 조회")
+    @Test
+    void getStationsPage() {
+        // given
+        지하철_역_생성_요청("강남역");
+        지하철_역_생성_요청("역삼역");
+        지하철_역_생성_요청("잠실역");
+
+        // when
+        final ExtractableResponse<Response> firstPage = 지하철_역_목록_페이지_조회_요청(0L, 2);
+        final List<Long> firstPageIds = firstPage.jsonPath().getList("id", Long.class);
+        final ExtractableResponse<Response> secondPage = 지하철_역_목록_페이지_조회_요청(firstPageIds.get(1), 2);
+
+        // then
+        assertAll(
+                () -> assertThat(firstPage.jsonPath().getList("name")).containsExactly("강남역", "역삼역"),
+                () -> assertThat(secondPage.jsonPath().getList("name")).containsExactly("잠실역")
+        );
+    }
+
+    /**
+     * When 허용 범위를 벗어난 개수로 지하철 역 목록 페이지 조회를 요청 하면
+     * Then 지하철 역 목록 페이지 조회가 실패 한다.
+     */
+    @DisplayName("허용 범위를 벗어난 개수로 지하철 역 목록 페이지 조회")
+    @Test
+    void getStationsPageWithInvalidLimit() {
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_목록_페이지_조회_요청(0L, 0);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * Given 새로운 지하철 역 생성을 요청 하고
+     * When NDJSON 으로 지하철 역 목록 조회를 요청 하면
+     * Then 한 줄에 하나씩 지하철 역을 응답 받는다.
+     */
+    @DisplayName("지하철 역 목록 스트림 조회")
+    @Test
+    void streamStations() {
+        // given
+        지하철_역_생성_요청("강남역");
+        지하철_역_생성_요청("역삼역");
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_목록_스트림_조회_요청();
+
+        // then
+        final String[] lines = response.asString().split("\n");
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.contentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE),
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines[0]).contains("강남역"),
+                () -> assertThat(lines[1]).contains("역삼역")
+        );
+    }
+
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * When 이미 등록된 이름과 중복된 이름이 포함된 지하철 역 일괄 생성을 요청 하면
+     * Then 중복 되지 않은 지하철 역만 생성 되고 행 별 결과를 응답 받는다.
+     */
+    @DisplayName("지하철 역 일괄 생성")
+    @Test
+    void createStations() {
+        // given
+        지하철_역_생성_요청("강남역");
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_일괄_생성_요청(List.of("역삼역", "강남역", "잠실역", "역삼역"));
+
+        // then
+        final JsonPath responseBody = response.jsonPath();
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(responseBody.getInt("created")).isEqualTo(2),
+                () -> assertThat(responseBody.getInt("failed")).isEqualTo(2),
+                () -> assertThat(responseBody.getList("rows.row", Integer.class)).containsExactly(1, 2, 3, 4),
+                () -> assertThat(responseBody.getString("rows[0].id")).isNotNull(),
+                () -> assertThat(responseBody.getString("rows[1].error")).isEqualTo("중복된 이름 입니다."),
+                () -> assertThat(responseBody.getString("rows[3].error")).isEqualTo("중복된 이름 입니다."),
+                () -> assertThat(지하철_역_목록_조회_요청().jsonPath().getList("name")).containsExactly("강남역", "역삼역", "잠실역")
+        );
+    }
+
+    /**
+     * When 헤더가 있다고 알린 CSV 로 지하철 역 일괄 생성을 요청 하면
+     * Then 헤더와 빈 줄을 제외한 지하철 역이 생성 되고 건너뛴 행을 응답 받는다.
+     */
+    @DisplayName("CSV 로 지하철 역 일괄 생성")
+    @Test
+    void createStationsWithCsv() {
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_헤더_있는_CSV_일괄_생성_요청("name\n강남역\n\n\"역삼역\"\n");
+
+        // then
+        final JsonPath responseBody = response.jsonPath();
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(responseBody.getInt("created")).isEqualTo(2),
+                () -> assertThat(responseBody.getInt("skipped")).isEqualTo(2),
+                () -> assertThat(responseBody.getList("rows.row", Integer.class)).containsExactly(1, 2, 3, 4),
+                () -> assertThat(responseBody.getString("rows[0].skipped")).isEqualTo("헤더 입니다."),
+                () -> assertThat(responseBody.getString("rows[2].skipped")).isEqualTo("빈 행 입니다."),
+                () -> assertThat(지하철_역_목록_조회_요청().jsonPath().getList("name")).containsExactly("강남역", "역삼역")
+        );
+    }
+
+    /**
+     * When 헤더가 있다고 알리지 않은 CSV 로 쉼표와 따옴표가 든 이름의 지하철 역 일괄 생성을 요청 하면
+     * Then 첫 행 까지 따옴표 안의 필드를 그대로 이름으로 하는 지하철 역이 생성 된다.
+     */
+    @DisplayName("CSV 로 따옴표 안에 쉼표가 든 이름의 지하철 역 일괄 생성")
+    @Test
+    void createStationsWithQuotedCsv() {
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_CSV_일괄_생성_요청(
+                "Name\r\n\"Foo, Bar\",1\r\n\"큰\"\"따옴표\"\"역\"\r\n");
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(response.jsonPath().getInt("created")).isEqualTo(3),
+                () -> assertThat(response.jsonPath().getInt("skipped")).isZero(),
+                () -> assertThat(지하철_역_목록_조회_요청().jsonPath().getList("name"))
+                        .containsExactly("Name", "Foo, Bar", "큰\"따옴표\"역")
+        );
+    }
+
+    /**
+     * When 따옴표가 닫히지 않은 CSV 로 지하철 역 일괄 생성을 요청 하면
+     * Then 지하철 역 일괄 생성에 실패 한다.
+     */
+    @DisplayName("따옴표가 닫히지 않은 CSV 로 지하철 역 일괄 생성")
+    @Test
+    void createStationsWithUnterminatedCsv() {
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_CSV_일괄_생성_요청("강남역\n\"역삼역\n");
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(지하철_역_목록_조회_요청().jsonPath().getList("name")).isEmpty()
+        );
+    }
+
+    /**
+     * When 지하철 역 100 개 일괄 생성을 요청 하면
+     * Then 역 마다 쿼리를 실행 하지 않고 묶어서 실행 한다.
+     */
+    @DisplayName("지하철 역 일괄 생성 쿼리 수")
+    @Test
+    void createStationsQueryCount() {
+        // given
+        final List<String> names = IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> "역" + i)
+                .collect(Collectors.toList());
+
+        // when
+        final long queryCount = queryCounter.count(() -> 지하철_역_일괄_생성_요청(names));
+
+        // then
+        assertThat(queryCount).isLessThanOrEqualTo(10);
+    }
+
     /**
      * Given 지하철 역 생성을 요청 하고
      * When 생성한 지하철 역 삭제를 요청 하면
@@ -95,4 +415,87 @@ class StationAcceptanceTest extends AcceptanceTest {
         // then
         assertThat(response.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
     }
+
+    /**
+     * Given 지하철 역 생성을 요청 하고
+     * Given 생성한 역을 지나는 지하철 노선 두 개의 생성을 요청 하고
+     * When 역을 지나는 노선 목록 조회를 요청 하면
+     * Then 두 노선이 조회 된다.
+     */
+    @DisplayName("역을 지나는 지하철 노선 목록 조회")
+    @Test
+    void showStationLines() {
+        // given
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final long 양재역 = 지하철_역_생성_요청("양재역").jsonPath().getLong("id");
+        지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 역삼역, 1);
+        지하철_노선_생성_요청("신분당선", "bg-red-600", 양재역, 강남역, 1);
+
+        // when
+        final ExtractableResponse<Response> 강남역_노선 = 지하철_역_노선_목록_조회_요청(강남역);
+        final ExtractableResponse<Response> 역삼역_노선 = 지하철_역_노선_목록_조회_요청(역삼역);
+
+        // then
+        assertAll(
+                () -> assertThat(강남역_노선.statusCode()).isEqualTo(HttpStatus.OK.value()),
+                () -> assertThat(강남역_노선.jsonPath().getList("name", String.class)).containsExactly("2호선", "신분당선"),
+                () -> assertThat(역삼역_노선.jsonPath().getList("name", String.class)).containsExactly("2호선")
+        );
+    }
+
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * When 노선에 등록된 역 삭제를 요청 하면
+     * Then 역 삭제가 실패 하고
+     * When 노선을 삭제한 뒤 역 삭제를 요청 하면
+     * Then 역 삭제가 성공 한다.
+     */
+    @DisplayName("노선에 등록된 지하철 역 삭제")
+    @Test
+    void deleteStationServedByLine() {
+        // given
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final String linePath = 지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 역삼역, 1).header("Location");
+
+        // when
+        final int statusCode1 = 지하철_역_삭제_요청("/stations/" + 강남역).statusCode();
+        지하철_노선_삭제_요청(linePath);
+        final int statusCode2 = 지하철_역_삭제_요청("/stations/" + 강남역).statusCode();
+
+        // then
+        assertAll(
+                () -> assertThat(statusCode1).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(statusCode2).isEqualTo(HttpStatus.NO_CONTENT.value()),
+                () -> assertThat(지하철_역_노선_목록_조회_요청(역삼역).jsonPath().getList("id")).isEmpty()
+        );
+    }
+
+    /**
+     * Given 지하철 노선 생성을 요청 하고
+     * Given 역-노선 색인에 반영 되기 전의 구간이 역을 참조 하면
+     * When 그 역의 삭제를 요청 하면
+     * Then 역 삭제가 실패 한다.
+     */
+    @DisplayName("색인에 반영 되기 전 구간에 등록된 지하철 역 삭제")
+    @Test
+    void deleteStationServedBySectionNotIndexed() {
+        // given
+        final long 강남역 = 지하철_역_생성_요청("강남역").jsonPath().getLong("id");
+        final long 역삼역 = 지하철_역_생성_요청("역삼역").jsonPath().getLong("id");
+        final long 선릉역 = 지하철_역_생성_요청("선릉역").jsonPath().getLong("id");
+        final long lineId = 지하철_노선_생성_요청("2호선", "bg-green-600", 강남역, 역삼역, 1).jsonPath().getLong("id");
+        jdbcTemplate.update("insert into section (id, line_id, up_station_id, down_station_id, distance) values (?, ?, ?, ?, ?)",
+                Long.MAX_VALUE, lineId, 역삼역, 선릉역, 1);
+
+        // when
+        final ExtractableResponse<Response> response = 지하철_역_삭제_요청("/stations/" + 선릉역);
+
+        // then
+        assertAll(
+                () -> assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value()),
+                () -> assertThat(지하철_역_목록_조회_요청().jsonPath().getList("name")).contains("선릉역")
+        );
+    }
 }
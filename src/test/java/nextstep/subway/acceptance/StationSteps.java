@@ -3,10 +3,14 @@ package nextstep.subway.acceptance;
 import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class StationSteps {
 
@@ -23,10 +27,80 @@ public class StationSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_역_일괄_생성_요청(final List<String> names) {
+        final List<Map<String, String>> requestParams = names.stream()
+                .map(name -> Map.of("name", name))
+                .collect(Collectors.toList());
+
+        return RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(requestParams)
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_역_CSV_일괄_생성_요청(final String csv) {
+        return 지하철_역_CSV_일괄_생성_요청("text/csv", csv);
+    }
+
+    public static ExtractableResponse<Response> 지하철_역_헤더_있는_CSV_일괄_생성_요청(final String csv) {
+        return 지하철_역_CSV_일괄_생성_요청("text/csv; header=present", csv);
+    }
+
+    private static ExtractableResponse<Response> 지하철_역_CSV_일괄_생성_요청(final String contentType, final String csv) {
+        return RestAssured.given().log().all()
+                .contentType(contentType)
+                .body(csv.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/stations/bulk")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_역_목록_조회_요청() {
         return 지하철_역_조회_요청("/stations");
     }
 
+    public static ExtractableResponse<Response> 지하철_역_목록_조회_요청(final String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_역_목록_조회_요청(final String acceptEncoding, final String eTag) {
+        return RestAssured.given().log().all()
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_역_목록_페이지_조회_요청(final Long after, final int limit) {
+        return RestAssured.given().log().all()
+                .queryParam("after", after)
+                .queryParam("limit", limit)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_역_목록_스트림_조회_요청() {
+        return RestAssured.given().log().all()
+                .accept(MediaType.APPLICATION_NDJSON_VALUE)
+                .when()
+                .get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_역_조회_요청(final String path) {
         return RestAssured.given().log().all()
                 .when()
@@ -35,6 +109,14 @@ public class StationSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_역_노선_목록_조회_요청(final Long stationId) {
+        return RestAssured.given().log().all()
+                .when()
+                .get("/stations/{id}/lines", stationId)
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_역_삭제_요청(final String path) {
         return RestAssured.given().log().all()
                 .when()
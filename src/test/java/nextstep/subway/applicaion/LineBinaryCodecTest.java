@@ -0,0 +1,62 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LineBinaryCodecTest {
+
+    private final LocalDateTime createdDate = LocalDateTime.of(2022, 3, 1, 9, 30, 15, 123_456_789);
+    private final StationResponse 강남역 = new StationResponse(1L, "강남역", createdDate, createdDate);
+    private final StationResponse 역삼역 = new StationResponse(2L, "역삼역", createdDate, null);
+    private final StationResponse 양재역 = new StationResponse(300L, "양재역", null, null);
+
+    @DisplayName("여러 노선이 지나는 역도 한 번만 쓰고 같은 노선 목록으로 읽는다")
+    @Test
+    void encodeAndDecode() {
+        final List<LineResponse> lines = List.of(
+                new LineResponse(1L, "2호선", "bg-green-600", List.of(강남역, 역삼역), createdDate, null),
+                new LineResponse(2L, "신분당선", "bg-red-600", List.of(강남역, 양재역), null, null)
+        );
+
+        final byte[] bytes = LineBinaryCodec.encode(lines);
+        final List<LineResponse> decoded = LineBinaryCodec.decode(bytes);
+
+        assertAll(
+                () -> assertThat(decoded).extracting(LineResponse::getId, LineResponse::getName, LineResponse::getColor,
+                                LineResponse::getCreatedDate, LineResponse::getModifiedDate)
+                        .containsExactly(
+                                tuple(1L, "2호선", "bg-green-600", createdDate, null),
+                                tuple(2L, "신분당선", "bg-red-600", null, null)),
+                () -> assertThat(decoded.get(1).getStations())
+                        .extracting(StationResponse::getId, StationResponse::getName,
+                                StationResponse::getCreatedDate, StationResponse::getModifiedDate)
+                        .containsExactly(tuple(1L, "강남역", createdDate, createdDate), tuple(300L, "양재역", null, null)),
+                () -> assertThat(decoded.get(0).getStations().get(0)).isSameAs(decoded.get(1).getStations().get(0))
+        );
+    }
+
+    @DisplayName("형식이 다르거나 잘린 바이트는 읽을 수 없다")
+    @Test
+    void decodeInvalid() {
+        final byte[] bytes = LineBinaryCodec.encode(
+                List.of(new LineResponse(1L, "2호선", "bg-green-600", List.of(강남역, 역삼역), createdDate, null)));
+
+        assertAll(
+                () -> assertThatThrownBy(() -> LineBinaryCodec.decode(new byte[]{9}))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> LineBinaryCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package nextstep.subway.applicaion;
+
+import nextstep.subway.applicaion.dto.LineResponse;
+import nextstep.subway.applicaion.dto.StationResponse;
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.repository.SectionStations;
+import nextstep.subway.domain.repository.TableVersion;
+import nextstep.subway.domain.service.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class NetworkSnapshotFileTest {
+
+    private final static Validator<Station> DUMMY_STATION_VALIDATOR = _station -> {};
+    private final static Validator<Line> DUMMY_LINE_VALIDATOR = _line -> {};
+
+    private final Station 강남역 = new Station(1L, "강남역", DUMMY_STATION_VALIDATOR);
+    private final Station 역삼역 = new Station(2L, "역삼역", DUMMY_STATION_VALIDATOR);
+    private final Station 선릉역 = new Station(3L, "선릉역", DUMMY_STATION_VALIDATOR);
+
+    @TempDir
+    Path directory;
+
+    private NetworkSnapshotFile file;
+    private NetworkSnapshot snapshot;
+
+    /**
+     * 2호선: 강남역 -10- 역삼역 -5- 선릉역 (역삼역 - 선릉역 구간을 먼저 등록)
+     */
+    @BeforeEach
+    void setUp() {
+        final Line 이호선 = new Line(1L, "2호선", "bg-green-600", 역삼역, 선릉역, 5, DUMMY_LINE_VALIDATOR);
+        이호선.addSection(new Section(이호선, 강남역, 역삼역, 10));
+
+        file = new NetworkSnapshotFile(directory.resolve("network.snapshot"));
+        snapshot = NetworkSnapshot.of(fingerprint(3, 2), List.of(강남역, 역삼역, 선릉역), List.of(이호선));
+    }
+
+    @DisplayName("스냅샷을 쓰고 다시 읽으면 지문, 역, 노선 별 구간 순서가 같다")
+    @Test
+    void writeAndRead() {
+        file.write(snapshot);
+
+        final NetworkSnapshot read = file.read().orElseThrow();
+
+        final List<LineResponse> lines = read.toLineResponses();
+        assertAll(
+                () -> assertThat(read.getFingerprint()).isEqualTo(fingerprint(3, 2)),
+                () -> assertThat(read.getFingerprint()).isNotEqualTo(fingerprint(3, 3)),
+                () -> assertThat(read.toStationResponses()).extracting(StationResponse::getName)
+                        .containsExactly("강남역", "역삼역", "선릉역"),
+                () -> assertThat(read.getStationNames()).containsEntry("역삼역", 2L),
+                () -> assertThat(read.getLineNames()).containsEntry("2호선", 1L),
+                () -> assertThat(lines).extracting(LineResponse::getName, LineResponse::getColor)
+                        .containsExactly(tuple("2호선", "bg-green-600")),
+                () -> assertThat(lines.get(0).getStations().stream().map(StationResponse::getId).collect(Collectors.toList()))
+                        .containsExactly(1L, 2L, 3L),
+                () -> assertThat(read.getSections())
+                        .extracting(SectionStations::getLineId, SectionStations::getUpStationId,
+                                SectionStations::getDownStationId, SectionStations::getDistance)
+                        .containsExactly(tuple(1L, 1L, 2L, 10), tuple(1L, 2L, 3L, 5))
+        );
+    }
+
+    @DisplayName("다시 쓰면 이전 스냅샷을 바꾼다")
+    @Test
+    void overwrite() {
+        file.write(snapshot);
+        file.write(new NetworkSnapshot(fingerprint(0, 0), List.of(), List.of()));
+
+        final Optional<NetworkSnapshot> read = file.read();
+
+        assertAll(
+                () -> assertThat(read).isPresent(),
+                () -> assertThat(read.get().getFingerprint()).isEqualTo(fingerprint(0, 0)),
+                () -> assertThat(read.get().getSections()).isEmpty(),
+                () -> assertThat(directory.toFile().list()).containsExactly("network.snapshot")
+        );
+    }
+
+    @DisplayName("파일이 없거나 형식이 다르면 스냅샷이 없다")
+    @Test
+    void readInvalid() throws IOException {
+        assertThat(file.read()).isEmpty();
+
+        Files.write(directory.resolve("network.snapshot"), new byte[]{1, 2, 3});
+        assertThat(file.read()).isEmpty();
+
+        final byte[] bytes = snapshot.encode();
+        Files.write(directory.resolve("network.snapshot"), Arrays.copyOf(bytes, bytes.length - 1));
+        assertThat(file.read()).isEmpty();
+    }
+
+    @DisplayName("잘리거나 바이트가 바뀐 스냅샷 파일은 스냅샷이 없다")
+    @Test
+    void readCorrupted() throws IOException {
+        file.write(snapshot);
+        final Path path = directory.resolve("network.snapshot");
+        final byte[] bytes = Files.readAllBytes(path);
+
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThat(file.read()).isEmpty();
+
+        final byte[] flipped = bytes.clone();
+        flipped[flipped.length / 2] ^= 1;
+        Files.write(path, flipped);
+        assertThat(file.read()).isEmpty();
+    }
+
+    @DisplayName("CRC32 가 맞아도 개수가 남은 크기를 넘으면 스냅샷이 없다")
+    @Test
+    void readOversizedCount() throws IOException {
+        final ByteBuffer body = ByteBuffer.allocate(Integer.BYTES * 3 + Long.BYTES * 7)
+                .putInt(0x53554257)
+                .putInt(1)
+                .put(new byte[Long.BYTES * 7])
+                .putInt(Integer.MAX_VALUE);
+        final CRC32 crc32 = new CRC32();
+        crc32.update(body.array());
+        final ByteBuffer bytes = ByteBuffer.allocate(body.capacity() + Long.BYTES + Integer.BYTES)
+                .put(body.array())
+                .putLong(body.capacity())
+                .putInt((int) crc32.getValue());
+        Files.write(directory.resolve("network.snapshot"), bytes.array());
+
+        assertThat(file.read()).isEmpty();
+    }
+
+    private NetworkFingerprint fingerprint(final long stationCount, final long lineVersionSum) {
+        final LocalDateTime modifiedDate = LocalDateTime.of(2022, 1, 1, 0, 0);
+        return NetworkFingerprint.of(
+                tableVersion(stationCount, stationCount, modifiedDate),
+                tableVersion(1, 1L, modifiedDate),
+                lineVersionSum
+        );
+    }
+
+    private TableVersion tableVersion(final long count, final Long maxId, final LocalDateTime modifiedDate) {
+        return new TableVersion() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+
+            @Override
+            public LocalDateTime getModifiedDate() {
+                return modifiedDate;
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package nextstep.subway.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"subway.web.execution-mode=virtual", "subway.network-snapshot.path="})
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private AsyncThread asyncThread;
+
+    @DisplayName("가상 스레드 실행 모드 에서는 @Async 작업도 가상 스레드 에서 실행 된다")
+    @Test
+    void asyncOnVirtualThread() {
+        final Thread thread = asyncThread.current().join();
+
+        assertThat(thread.isVirtual()).isTrue();
+    }
+
+    @TestConfiguration
+    static class AsyncThreadConfig {
+
+        @Bean
+        public AsyncThread asyncThread() {
+            return new AsyncThread();
+        }
+    }
+
+    static class AsyncThread {
+
+        @Async
+        public CompletableFuture<Thread> current() {
+            return CompletableFuture.completedFuture(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package nextstep.subway.config.accesslog;
+
+import ch.qos.logback.access.AccessConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CaptureTeeFilterTest {
+
+    private static final String HEADER = "X-Access-Log-Capture";
+
+    @DisplayName("캡처 헤더는 허용한 주소 에서 보낸 요청만 캡처 한다")
+    @Test
+    void captureByHeader() throws ServletException, IOException {
+        final CaptureTeeFilter filter = new CaptureTeeFilter(List.of(), HEADER, List.of("10.0.0.1"));
+        filter.init(new MockFilterConfig());
+
+        assertAll(
+                () -> assertThat(isCaptured(filter, "/lines", "10.0.0.1", true)).isTrue(),
+                () -> assertThat(isCaptured(filter, "/lines", "10.0.0.2", true)).isFalse(),
+                () -> assertThat(isCaptured(filter, "/lines", "10.0.0.1", false)).isFalse()
+        );
+    }
+
+    @DisplayName("허용한 주소가 없으면 캡처 헤더를 무시 하고 지정한 경로만 캡처 한다")
+    @Test
+    void captureByPath() throws ServletException, IOException {
+        final CaptureTeeFilter filter = new CaptureTeeFilter(List.of("/stations/**"), HEADER, List.of());
+        filter.init(new MockFilterConfig());
+
+        assertAll(
+                () -> assertThat(isCaptured(filter, "/lines", "127.0.0.1", true)).isFalse(),
+                () -> assertThat(isCaptured(filter, "/stations/1", "127.0.0.1", false)).isTrue()
+        );
+    }
+
+    private boolean isCaptured(final CaptureTeeFilter filter,
+                               final String uri,
+                               final String remoteAddr,
+                               final boolean withHeader) throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddr);
+        if (withHeader) {
+            request.addHeader(HEADER, "true");
+        }
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request.getAttribute(AccessConstants.LB_INPUT_BUFFER) != null;
+    }
+}
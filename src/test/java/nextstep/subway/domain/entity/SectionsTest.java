@@ -2,17 +2,20 @@ package nextstep.subway.domain.entity;
 
 import nextstep.subway.domain.service.Validator;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 class SectionsTest {
 
@@ -45,6 +48,24 @@ class SectionsTest {
         return Stream.of(Arguments.of(sections, line, station1, station2, station3));
     }
 
+    @DisplayName("순서 없이 저장된 지하철 구간 목록 조회")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenRemove")
+    void getStationsWithUnorderedSections(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        final Station station4 = new Station(4L, "사당역", DUMMY_VALIDATOR);
+        final List<Section> _sections = new ArrayList<>();
+        _sections.add(new Section(3L, line, station3, station4, 1));
+        _sections.addAll(sections.getSections());
+        Collections.swap(_sections, 1, 2);
+
+        // when
+        final Sections unorderedSections = new Sections(_sections);
+
+        // then
+        assertThat(unorderedSections.getStations()).isEqualTo(Arrays.asList(station1, station2, station3, station4));
+    }
+
     @DisplayName("지하철 구간 등록")
     @ParameterizedTest
     @MethodSource("provideSectionsAndLineWhenAdd")
@@ -57,17 +78,81 @@ class SectionsTest {
         assertThat(sections.getStations()).isEqualTo(Arrays.asList(station1, station2, station3));
     }
 
-    @DisplayName("노선에 등록된 하행 종점 역이 아닌 역을 상행 역 으로 지하철 구간 등록")
+    @DisplayName("상행 종점 역 앞에 지하철 구간 등록")
     @ParameterizedTest
     @MethodSource("provideSectionsAndLineWhenAdd")
-    void addWithUpStationNoContains(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+    void addBeforeStartingStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        // when
+        sections.add(new Section(2L, line, station3, station1, 1));
+
+        // then
+        assertThat(sections.getStations()).isEqualTo(Arrays.asList(station3, station1, station2));
+    }
+
+    @DisplayName("상행 역을 기준으로 역 사이에 지하철 구간 등록")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenRemove")
+    void addBetweenStationsFromUpStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        final Station station4 = new Station(4L, "사당역", DUMMY_VALIDATOR);
+        sections.add(new Section(3L, line, station3, station4, 10));
+
+        // when
+        final SectionChanges changes = sections.add(new Section(4L, line, station3, new Station(5L, "교대역", DUMMY_VALIDATOR), 4));
+
+        // then
+        assertAll(
+                () -> assertThat(sections.getStations()).extracting(Station::getName)
+                        .containsExactly("강남역", "역삼역", "잠실역", "교대역", "사당역"),
+                () -> assertThat(changes.getRemoved()).extracting(Section::getDistance).containsExactly(10),
+                () -> assertThat(changes.getAdded()).extracting(Section::getDistance).containsExactly(4, 6)
+        );
+    }
+
+    @DisplayName("하행 역을 기준으로 역 사이에 지하철 구간 등록")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenRemove")
+    void addBetweenStationsFromDownStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        final Station station4 = new Station(4L, "사당역", DUMMY_VALIDATOR);
+        sections.add(new Section(3L, line, station3, station4, 10));
+
+        // when
+        final SectionChanges changes = sections.add(new Section(4L, line, new Station(5L, "교대역", DUMMY_VALIDATOR), station4, 3));
+
+        // then
+        assertAll(
+                () -> assertThat(sections.getStations()).extracting(Station::getName)
+                        .containsExactly("강남역", "역삼역", "잠실역", "교대역", "사당역"),
+                () -> assertThat(changes.getAdded()).extracting(Section::getDistance).containsExactly(7, 3)
+        );
+    }
+
+    @DisplayName("기존 구간 보다 길거나 같은 구간을 역 사이에 등록")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenAdd")
+    void addBetweenStationsWithLongerDistance(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
         // given
         // when
         final Section section = new Section(2L, line, station1, station3, 1);
 
         // then
         assertThatIllegalArgumentException().isThrownBy(() -> sections.add(section))
-                .withMessage("노선에 등록된 하행 종점 역이 아닌 역을 상행 역으로 설정할 수 없습니다.");
+                .withMessage("역 사이에 등록할 구간의 길이는 기존 구간의 길이보다 짧아야 합니다.");
+    }
+
+    @DisplayName("노선에 등록되지 않은 역으로만 지하철 구간 등록")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenAdd")
+    void addWithoutContainedStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        // when
+        final Section section = new Section(2L, line, station3, new Station(4L, "사당역", DUMMY_VALIDATOR), 1);
+
+        // then
+        assertThatIllegalArgumentException().isThrownBy(() -> sections.add(section))
+                .withMessage("상행 역과 하행 역 중 하나는 노선에 등록된 역이어야 합니다.");
     }
 
     @DisplayName("이미 노선에 구간 으로 등록된 역을 하행 역으로 지하철 구간 등록")
@@ -95,15 +180,76 @@ class SectionsTest {
         assertThat(sections.getStations()).isEqualTo(Arrays.asList(station1, station2));
     }
 
-    @DisplayName("하행 종점 역이 아닌 지하철 구간 제거")
+    @DisplayName("상행 종점 역 지하철 구간 제거")
     @ParameterizedTest
     @MethodSource("provideSectionsAndLineWhenRemove")
-    void removeWithoutEndingStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+    void removeStartingStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
         // given
         // when
+        sections.remove(station1);
+
         // then
-        assertThatIllegalArgumentException().isThrownBy(() -> sections.remove(station2))
-                .withMessage("하행 종점 역이 아니면 제거할 수 없습니다.");
+        assertThat(sections.getStations()).isEqualTo(Arrays.asList(station2, station3));
+    }
+
+    @DisplayName("중간 역 지하철 구간 제거")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenRemove")
+    void removeMiddleStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        final Station station4 = new Station(4L, "사당역", DUMMY_VALIDATOR);
+        sections.add(new Section(3L, line, station3, station4, 5));
+
+        // when
+        final SectionChanges changes = sections.remove(station3);
+
+        // then
+        assertAll(
+                () -> assertThat(sections.getStations()).isEqualTo(Arrays.asList(station1, station2, station4)),
+                () -> assertThat(sections.getSections()).hasSize(2),
+                () -> assertThat(changes.getRemoved()).extracting(Section::getDistance).containsExactly(1, 5),
+                () -> assertThat(changes.getAdded()).extracting(Section::getDistance).containsExactly(6)
+        );
+    }
+
+    @DisplayName("저장 전 구간 으로 만든 노선의 중간 역 지하철 구간 제거")
+    @Test
+    void removeMiddleStationOfUnsavedSections() {
+        // given
+        final Line line = new Line();
+        final Station station1 = new Station(1L, "강남역", DUMMY_VALIDATOR);
+        final Station station2 = new Station(2L, "역삼역", DUMMY_VALIDATOR);
+        final Station station3 = new Station(3L, "잠실역", DUMMY_VALIDATOR);
+        final Station station4 = new Station(4L, "사당역", DUMMY_VALIDATOR);
+        final Section section1 = new Section(line, station1, station2, 1);
+        final Section section2 = new Section(line, station2, station3, 2);
+        final Section section3 = new Section(line, station3, station4, 3);
+        final Sections sections = new Sections(new ArrayList<>(List.of(section1, section2, section3)));
+
+        // when
+        sections.remove(station3);
+
+        // then
+        assertAll(
+                () -> assertThat(sections.getStations()).containsExactly(station1, station2, station4),
+                () -> assertThat(sections.getSections()).hasSize(2),
+                () -> assertThat(sections.getSections().get(0)).isSameAs(section1),
+                () -> assertThat(sections.getSections().get(1)).isSameAs(section2),
+                () -> assertThat(section2.getDownStation()).isEqualTo(station4)
+        );
+    }
+
+    @DisplayName("노선에 등록되지 않은 역 지하철 구간 제거")
+    @ParameterizedTest
+    @MethodSource("provideSectionsAndLineWhenRemove")
+    void removeWithoutContainedStation(final Sections sections, final Line line, final Station station1, final Station station2, final Station station3) {
+        // given
+        final Station station4 = new Station(4L, "사당역", DUMMY_VALIDATOR);
+
+        // when
+        // then
+        assertThatIllegalArgumentException().isThrownBy(() -> sections.remove(station4))
+                .withMessage("노선에 등록되지 않은 역은 제거할 수 없습니다.");
     }
 
     @DisplayName("구간이 한 개인 지하철 구간 제거")
@@ -0,0 +1,203 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.SectionChanges;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.service.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AllPairsDistancesTest {
+
+    private final static Validator<Station> DUMMY_STATION_VALIDATOR = _station -> {};
+    private final static Validator<Line> DUMMY_LINE_VALIDATOR = _line -> {};
+
+    private final Station 가역 = new Station(1L, "가역", DUMMY_STATION_VALIDATOR);
+    private final Station 나역 = new Station(2L, "나역", DUMMY_STATION_VALIDATOR);
+    private final Station 다역 = new Station(3L, "다역", DUMMY_STATION_VALIDATOR);
+    private final Station 라역 = new Station(4L, "라역", DUMMY_STATION_VALIDATOR);
+    private final List<Station> stations = List.of(가역, 나역, 다역, 라역);
+
+    private PathFinder pathFinder;
+    private AllPairsDistances allPairsDistances;
+    private Line 일호선;
+    private int rebuilds;
+    private CountDownLatch building;
+    private CountDownLatch released;
+
+    /**
+     * 1호선: 가역 -5- 나역
+     * 2호선: 나역 -3- 다역
+     */
+    @BeforeEach
+    void setUp() {
+        pathFinder = new PathFinder() {
+            @Override
+            public DistanceMatrix findAllDistances() {
+                rebuilds++;
+                if (building != null) {
+                    building.countDown();
+                    await(released);
+                }
+                return super.findAllDistances();
+            }
+        };
+        allPairsDistances = new AllPairsDistances(pathFinder, 4);
+
+        일호선 = new Line(1L, "1호선", "bg-blue-600", 가역, 나역, 5, DUMMY_LINE_VALIDATOR);
+        final Line 이호선 = new Line(2L, "2호선", "bg-green-600", 나역, 다역, 3, DUMMY_LINE_VALIDATOR);
+        add(일호선);
+        add(이호선);
+    }
+
+    @DisplayName("전체 역 쌍의 최단 거리 조회")
+    @Test
+    void find() {
+        assertAll(
+                () -> assertThat(allPairsDistances.find(가역.getId(), 다역.getId())).hasValue(8),
+                () -> assertThat(allPairsDistances.find(다역.getId(), 가역.getId())).hasValue(8),
+                () -> assertThat(allPairsDistances.find(나역.getId(), 나역.getId())).hasValue(0)
+        );
+    }
+
+    @DisplayName("구간을 역 사이에 등록 하거나 노선을 추가하면 행렬을 고쳐 쓴다")
+    @Test
+    void findAfterAddSections() {
+        // given
+        allPairsDistances.get();
+
+        // when
+        apply(일호선.addSection(new Section(3L, 일호선, 가역, 라역, 2)));
+        add(new Line(3L, "3호선", "bg-orange-600", 가역, 다역, 4, DUMMY_LINE_VALIDATOR));
+
+        // then
+        assertAll(
+                () -> assertThat(allPairsDistances.find(라역.getId(), 나역.getId())).hasValue(3),
+                () -> assertThat(allPairsDistances.find(가역.getId(), 다역.getId())).hasValue(4),
+                () -> assertThat(allPairsDistances.find(라역.getId(), 다역.getId())).hasValue(6),
+                this::assertRebuilt
+        );
+    }
+
+    @DisplayName("중간 역을 제거하면 행렬을 다시 만들지 않고 제거한 역을 연결되지 않은 역으로 바꾼다")
+    @Test
+    void findAfterRemoveStation() {
+        // given
+        apply(일호선.addSection(new Section(3L, 일호선, 가역, 라역, 2)));
+        allPairsDistances.get();
+
+        // when
+        apply(일호선.removeSection(라역));
+
+        // then
+        assertAll(
+                () -> assertThat(allPairsDistances.find(가역.getId(), 라역.getId())).isEmpty(),
+                () -> assertThat(allPairsDistances.find(가역.getId(), 나역.getId())).hasValue(5),
+                () -> assertThat(rebuilds).isEqualTo(1),
+                this::assertRebuilt
+        );
+    }
+
+    @DisplayName("종점 역을 제거하면 행렬을 다시 만들지 않는다")
+    @Test
+    void findAfterRemoveEndingStation() {
+        // given
+        apply(일호선.addSection(new Section(3L, 일호선, 나역, 라역, 4)));
+        allPairsDistances.get();
+
+        // when
+        apply(일호선.removeSection(가역));
+
+        // then
+        assertAll(
+                () -> assertThat(allPairsDistances.find(가역.getId(), 다역.getId())).isEmpty(),
+                () -> assertThat(allPairsDistances.find(라역.getId(), 다역.getId())).hasValue(7),
+                () -> assertThat(rebuilds).isEqualTo(1),
+                this::assertRebuilt
+        );
+    }
+
+    @DisplayName("행렬을 만드는 동안 구간을 고쳐도 기다리지 않고, 만든 행렬은 올려 두지 않는다")
+    @Test
+    void updateWhileBuilding() throws Exception {
+        // given
+        building = new CountDownLatch(1);
+        released = new CountDownLatch(1);
+        final CompletableFuture<?> reader = CompletableFuture.runAsync(allPairsDistances::get);
+        await(building);
+
+        // when
+        CompletableFuture.runAsync(() -> apply(일호선.addSection(new Section(3L, 일호선, 가역, 라역, 2))))
+                .get(5, TimeUnit.SECONDS);
+        building = null;
+        released.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+                () -> assertThat(allPairsDistances.find(라역.getId(), 다역.getId())).hasValue(6),
+                () -> assertThat(rebuilds).isEqualTo(2),
+                this::assertRebuilt
+        );
+    }
+
+    @DisplayName("역 수가 상한을 넘으면 행렬 없이 조회 마다 최단 거리를 구한다")
+    @Test
+    void findOverMaxStations() {
+        // given
+        allPairsDistances = new AllPairsDistances(pathFinder, 2);
+
+        // when
+        final OptionalInt distance = allPairsDistances.find(가역.getId(), 다역.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(distance).hasValue(8),
+                () -> assertThat(allPairsDistances.get()).isEmpty(),
+                () -> assertThat(rebuilds).isZero(),
+                () -> assertThatThrownBy(() -> allPairsDistances.find(가역.getId(), 5L))
+                        .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    private void add(final Line line) {
+        line.getSections().forEach(pathFinder::addSection);
+        allPairsDistances.addSections(line.getSections());
+    }
+
+    private void apply(final SectionChanges changes) {
+        pathFinder.apply(changes);
+        allPairsDistances.apply(changes);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void assertRebuilt() {
+        final DistanceMatrix rebuilt = pathFinder.findAllDistances();
+        for (final Station source : stations) {
+            for (final Station target : stations) {
+                final OptionalInt expected = rebuilt.find(source.getId(), target.getId());
+                assertThat(allPairsDistances.find(source.getId(), target.getId())).isEqualTo(expected);
+            }
+        }
+    }
+}
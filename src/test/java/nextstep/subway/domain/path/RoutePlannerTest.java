@@ -0,0 +1,96 @@
+package nextstep.subway.domain.path;
+
+import nextstep.subway.domain.entity.Line;
+import nextstep.subway.domain.entity.Section;
+import nextstep.subway.domain.entity.Station;
+import nextstep.subway.domain.service.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RoutePlannerTest {
+
+    private final static Validator<Station> DUMMY_STATION_VALIDATOR = _station -> {};
+    private final static Validator<Line> DUMMY_LINE_VALIDATOR = _line -> {};
+
+    private final Station 가역 = new Station(1L, "가역", DUMMY_STATION_VALIDATOR);
+    private final Station 나역 = new Station(2L, "나역", DUMMY_STATION_VALIDATOR);
+    private final Station 다역 = new Station(3L, "다역", DUMMY_STATION_VALIDATOR);
+    private final Station 라역 = new Station(4L, "라역", DUMMY_STATION_VALIDATOR);
+    private final Station 마역 = new Station(5L, "마역", DUMMY_STATION_VALIDATOR);
+
+    private RoutePlanner routePlanner;
+    private Section 마라구간;
+
+    /**
+     * 1호선: 가역 -2- 나역 -2- 다역 -2- 라역
+     * 2호선: 가역 -1- 마역
+     * 3호선: 마역 -1- 라역
+     * 4호선: 나역 -3- 라역
+     */
+    @BeforeEach
+    void setUp() {
+        routePlanner = new RoutePlanner();
+
+        final Line 일호선 = new Line(1L, "1호선", "bg-blue-600", 가역, 나역, 2, DUMMY_LINE_VALIDATOR);
+        일호선.addSection(new Section(2L, 일호선, 나역, 다역, 2));
+        일호선.addSection(new Section(3L, 일호선, 다역, 라역, 2));
+        final Line 이호선 = new Line(2L, "2호선", "bg-green-600", 가역, 마역, 1, DUMMY_LINE_VALIDATOR);
+        final Line 삼호선 = new Line(3L, "3호선", "bg-orange-600", 마역, 라역, 1, DUMMY_LINE_VALIDATOR);
+        final Line 사호선 = new Line(4L, "4호선", "bg-sky-600", 나역, 라역, 3, DUMMY_LINE_VALIDATOR);
+        마라구간 = 삼호선.getSections().get(0);
+
+        List.of(일호선, 이호선, 삼호선, 사호선).forEach(line -> line.getSections().forEach(routePlanner::addSection));
+    }
+
+    @DisplayName("거리와 환승 횟수가 서로 우열을 가릴 수 없는 경로만 찾는다")
+    @Test
+    void find() {
+        // when
+        final List<Route> routes = routePlanner.find(가역.getId(), 라역.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(routes).extracting(Route::getDistance).containsExactly(2, 6),
+                () -> assertThat(routes).extracting(Route::getTransfers).containsExactly(1, 0),
+                () -> assertThat(routes.get(0).getStationIds()).containsExactly(1L, 5L, 4L),
+                () -> assertThat(routes.get(0).getLineIds()).containsExactly(2L, 3L),
+                () -> assertThat(routes.get(1).getStationIds()).containsExactly(1L, 2L, 3L, 4L),
+                () -> assertThat(routes.get(1).getLineIds()).containsExactly(1L)
+        );
+    }
+
+    @DisplayName("구간을 제거하면 가려져 있던 경로가 후보가 된다")
+    @Test
+    void findAfterRemoveSection() {
+        // when
+        routePlanner.removeSection(마라구간);
+        final List<Route> routes = routePlanner.find(가역.getId(), 라역.getId());
+
+        // then
+        assertAll(
+                () -> assertThat(routes).extracting(Route::getDistance).containsExactly(5, 6),
+                () -> assertThat(routes).extracting(Route::getTransfers).containsExactly(1, 0),
+                () -> assertThat(routes.get(0).getLineIds()).containsExactly(1L, 4L)
+        );
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로 조회")
+    @Test
+    void findWithoutConnection() {
+        // given
+        final Line 오호선 = new Line(5L, "5호선", "bg-purple-600",
+                new Station(6L, "바역", DUMMY_STATION_VALIDATOR), new Station(7L, "사역", DUMMY_STATION_VALIDATOR), 1, DUMMY_LINE_VALIDATOR);
+        오호선.getSections().forEach(routePlanner::addSection);
+
+        // then
+        assertThatIllegalArgumentException().isThrownBy(() -> routePlanner.find(가역.getId(), 7L))
+                .withMessage("출발역과 도착역이 연결되어 있지 않습니다.");
+    }
+}
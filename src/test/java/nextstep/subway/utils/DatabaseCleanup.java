@@ -1,14 +1,19 @@
 package nextstep.subway.utils;
 
 import com.google.common.base.CaseFormat;
+import nextstep.subway.applicaion.DataVersion;
+import nextstep.subway.applicaion.NetworkIndexes;
+import nextstep.subway.domain.service.NameIndex;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.Entity;
-import javax.persistence.EntityManager;
-import javax.persistence.PersistenceContext;
+import javax.persistence.*;
+import javax.persistence.metamodel.EntityType;
+import java.lang.reflect.Field;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,7 +23,20 @@ public class DatabaseCleanup implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private NetworkIndexes networkIndexes;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataVersion dataVersion;
+
+    @Autowired
+    private List<NameIndex<?>> nameIndexes;
+
     private List<String> tableNames;
+    private List<String> identityTableNames;
 
     @Override
     public void afterPropertiesSet() {
@@ -26,6 +44,17 @@ public class DatabaseCleanup implements InitializingBean {
                 .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
                 .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
                 .collect(Collectors.toList());
+        identityTableNames = entityManager.getMetamodel().getEntities().stream()
+                .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
+                .filter(this::isIdentity)
+                .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
+                .collect(Collectors.toList());
+    }
+
+    private boolean isIdentity(final EntityType<?> entityType) {
+        final Field id = (Field) entityType.getId(entityType.getIdType().getJavaType()).getJavaMember();
+        final GeneratedValue generatedValue = id.getAnnotation(GeneratedValue.class);
+        return generatedValue != null && generatedValue.strategy() == GenerationType.IDENTITY;
     }
 
     @Transactional
@@ -35,9 +64,17 @@ public class DatabaseCleanup implements InitializingBean {
 
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE " + tableName).executeUpdate();
+        }
+        for (String tableName : identityTableNames) {
             entityManager.createNativeQuery("ALTER TABLE " + tableName + " ALTER COLUMN ID RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+
+        networkIndexes.reload();
+        nameIndexes.forEach(NameIndex::clear);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        dataVersion.increase(DataVersion.LINES);
+        dataVersion.increase(DataVersion.STATIONS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package nextstep.subway.utils;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+
+@Service
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(final EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long count(final Runnable runnable) {
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            runnable.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package nextstep.subway.utils;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+@Configuration
+@ConditionalOnProperty(name = "subway.web.execution-mode", havingValue = "platform", matchIfMissing = true)
+public class SyncTaskExecutorConfig {
+
+    // 비동기 작업이 검증 도중에 실행 되지 않도록 요청 스레드 에서 바로 실행 한다.
+    @Bean
+    public TaskExecutor taskExecutor() {
+        return new SyncTaskExecutor();
+    }
+}